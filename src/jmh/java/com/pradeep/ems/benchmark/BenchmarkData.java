@@ -0,0 +1,77 @@
+package com.pradeep.ems.benchmark;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.entity.Department;
+import com.pradeep.ems.entity.Employee;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistic, fully populated entities and DTOs shared by the benchmarks
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static Department department(long id) {
+        return Department.builder()
+                .id(id)
+                .name("Engineering " + id)
+                .description("Builds and runs the product platform")
+                .location("Hyderabad")
+                .budget(new BigDecimal("2500000.00"))
+                .headCount(42)
+                .createdAt(LocalDateTime.of(2022, 1, 10, 9, 0))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 12, 30))
+                .version(3L)
+                .build();
+    }
+
+    public static Employee employee(long id, Department department) {
+        return Employee.builder()
+                .id(id)
+                .name("Employee Number " + id)
+                .email("employee" + id + "@company.com")
+                .employeeId("EMP" + id)
+                .status("ACTIVE")
+                .phoneNumber("+91-9000000000")
+                .address("Plot 12, Hitech City, Hyderabad")
+                .hireDate(LocalDate.of(2021, 3, 15))
+                .salary(new BigDecimal("85000.00"))
+                .jobTitle("Software Engineer")
+                .department(department)
+                .createdAt(LocalDateTime.of(2021, 3, 15, 10, 0))
+                .updatedAt(LocalDateTime.of(2024, 2, 1, 16, 45))
+                .version(7L)
+                .build();
+    }
+
+    public static List<EmployeeResponseDto> employeeDtos(int count) {
+        List<EmployeeResponseDto> dtos = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            dtos.add(EmployeeResponseDto.builder()
+                    .id(id)
+                    .name("Employee Number " + id)
+                    .email("employee" + id + "@company.com")
+                    .employeeId("EMP" + id)
+                    .status("ACTIVE")
+                    .phoneNumber("+91-9000000000")
+                    .address("Plot 12, Hitech City, Hyderabad")
+                    .hireDate(LocalDate.of(2021, 3, 15))
+                    .salary(new BigDecimal("85000.00"))
+                    .jobTitle("Software Engineer")
+                    .departmentId(1L)
+                    .departmentName("Engineering 1")
+                    .createdAt(LocalDateTime.of(2021, 3, 15, 10, 0))
+                    .updatedAt(LocalDateTime.of(2024, 2, 1, 16, 45))
+                    .version(7L)
+                    .build());
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,82 @@
+package com.pradeep.ems.benchmark;
+
+import com.pradeep.ems.configuration.CookieJwtExtractorFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CookieJwtExtractorFilter: wrapping a request that carries the id_token cookie and
+ * reading the headers the way BearerTokenAuthenticationFilter does downstream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CookieJwtExtractorFilterBenchmark {
+
+    private CookieJwtExtractorFilter filter;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        filter = new CookieJwtExtractorFilter();
+        ReflectionTestUtils.setField(filter, "cookieName", "id_token");
+        String token = JwtFixtures.signedToken(JwtFixtures.generateKey());
+
+        cookieRequest = new MockHttpServletRequest("GET", "/api/v1/employees");
+        cookieRequest.addHeader("Accept", "application/json");
+        cookieRequest.addHeader("User-Agent", "Mozilla/5.0");
+        cookieRequest.setCookies(new Cookie("JSESSIONID", "abc"), new Cookie("id_token", token));
+
+        headerRequest = new MockHttpServletRequest("GET", "/api/v1/employees");
+        headerRequest.addHeader("Authorization", "Bearer " + token);
+
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void tokenFromCookie(Blackhole blackhole) throws Exception {
+        cookieRequest.removeAttribute(alreadyFilteredAttribute());
+        filter.doFilter(cookieRequest, response, consumingChain(blackhole));
+    }
+
+    @Benchmark
+    public void tokenFromHeader(Blackhole blackhole) throws Exception {
+        headerRequest.removeAttribute(alreadyFilteredAttribute());
+        filter.doFilter(headerRequest, response, consumingChain(blackhole));
+    }
+
+    private String alreadyFilteredAttribute() {
+        return CookieJwtExtractorFilter.class.getName() + ".FILTERED";
+    }
+
+    private static FilterChain consumingChain(Blackhole blackhole) {
+        return (request, ignored) -> {
+            HttpServletRequest http = (HttpServletRequest) request;
+            blackhole.consume(http.getHeader("Authorization"));
+            blackhole.consume(Collections.list(http.getHeaderNames()));
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.pradeep.ems.benchmark;
+
+import com.pradeep.ems.entity.Department;
+import com.pradeep.ems.entity.Employee;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.Query;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flush cost of a bulk salary update on the bytecode-enhanced Employee (dirty-field tracking)
+ * against SnapshotEmployee, the same table mapped the pre-enhancement way.
+ * Mappings:
+ * - enhanced: Employee
+ * - snapshot: SnapshotEmployee
+ *
+ * - flush:      the flush alone, with ROWS employees loaded and changedPercent of them changed
+ * - bulkUpdate: load + change + flush
+ * For allocation per update run org.openjdk.jmh.Main with -prof gc on the test classpath and
+ * read bulkUpdate (flush's figure includes its per-invocation setup).
+ *
+ * Needs the employees table with at least ROWS rows; every invocation is rolled back.
+ *   mvn -Pbenchmarks -DskipTests verify -Djmh.args=EntityFlush
+ * Connection: -Dbenchmark.jdbc-url / -Dbenchmark.jdbc-user / -Dbenchmark.jdbc-password
+ * (defaults: the local profile's database).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class EntityFlushBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final BigDecimal RAISE = new BigDecimal("1.01");
+
+    @Param({"enhanced", "snapshot"})
+    private String mapping;
+
+    // 0: a flush that only dirty-checks, e.g. before a query in a read-mostly transaction
+    @Param({"0", "1", "100"})
+    private int changedPercent;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistryBuilder registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        System.getProperty("benchmark.jdbc-url", "jdbc:postgresql://localhost:5432/emsdb"))
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.jdbc-user", "postgres"))
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.jdbc-password", "postgres"))
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                // Same batching as spring.jpa.properties.hibernate.* in application.yaml
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 20)
+                .applySetting(AvailableSettings.BATCH_VERSIONED_DATA, true)
+                .applySetting(AvailableSettings.ORDER_UPDATES, true);
+        sessionFactory = new MetadataSources(registry.build())
+                .addAnnotatedClass(Employee.class)
+                .addAnnotatedClass(Department.class)
+                .addAnnotatedClass(SnapshotEmployee.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public int flush(Loaded loaded) {
+        loaded.session.flush();
+        return loaded.employees.size();
+    }
+
+    @Benchmark
+    public int bulkUpdate() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                List<?> employees = loadAndChange(session);
+                session.flush();
+                return employees.size();
+            } finally {
+                transaction.rollback();
+            }
+        }
+    }
+
+    private List<?> loadAndChange(Session session) {
+        Query<Object> query = "snapshot".equals(mapping)
+                ? session.createQuery("from SnapshotEmployee order by id", Object.class)
+                : session.createQuery("from Employee order by id", Object.class);
+        List<Object> employees = query.setMaxResults(ROWS).getResultList();
+        if (changedPercent == 0) {
+            return employees;
+        }
+        int every = 100 / changedPercent;
+        for (int i = 0; i < employees.size(); i += every) {
+            if (employees.get(i) instanceof Employee employee) {
+                employee.setSalary(employee.getSalary().multiply(RAISE));
+            } else if (employees.get(i) instanceof SnapshotEmployee employee) {
+                employee.setSalary(employee.getSalary().multiply(RAISE));
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * A session with the employees loaded and changed, so flush() measures the flush alone
+     */
+    @State(Scope.Thread)
+    public static class Loaded {
+
+        private Session session;
+        private Transaction transaction;
+        private List<?> employees;
+
+        @Setup(Level.Invocation)
+        public void load(EntityFlushBenchmark benchmark) {
+            session = benchmark.sessionFactory.openSession();
+            transaction = session.beginTransaction();
+            employees = benchmark.loadAndChange(session);
+        }
+
+        @TearDown(Level.Invocation)
+        public void rollback() {
+            transaction.rollback();
+            session.close();
+        }
+    }
+}
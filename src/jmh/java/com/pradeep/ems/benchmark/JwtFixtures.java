@@ -0,0 +1,55 @@
+package com.pradeep.ems.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Locally signed RS256 tokens shaped like Google ID tokens
+ */
+public final class JwtFixtures {
+
+    public static final String ISSUER = "https://accounts.google.com";
+    public static final String AUDIENCE = "ems-benchmark";
+
+    private JwtFixtures() {
+    }
+
+    public static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyID("benchmark").generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String signedToken(RSAKey key) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .audience(List.of(AUDIENCE))
+                .subject("109876543210987654321")
+                .claim("email", "hr.user@company.com")
+                .claim("email_verified", true)
+                .claim("name", "HR User")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .build();
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+            jwt.sign(new RSASSASigner(key));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.pradeep.ems.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pradeep.ems.dto.response.CountStrategy;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.PageResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the GET /api/v1/employees response at several page sizes,
+ * using an ObjectMapper configured the way Spring Boot configures it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "50", "200", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDto<EmployeeResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        page = PageResponseDto.of(new PageImpl<>(BenchmarkData.employeeDtos(pageSize), PageRequest.of(0, pageSize), 100_000),
+                100_000L, CountStrategy.EXACT);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,64 @@
+package com.pradeep.ems.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Employee as it was mapped before bytecode enhancement: same table and columns, every
+ * attribute eager, dirty-checked against snapshots. Lives in src/jmh, which the enhancer
+ * does not touch.
+ */
+@Entity(name = "SnapshotEmployee")
+@Table(name = "employees")
+public class SnapshotEmployee {
+
+    @Id
+    private Long id;
+
+    private String name;
+    private String email;
+
+    @Column(name = "employee_id")
+    private String employeeId;
+
+    private String status;
+    private String phoneNumber;
+    private String address;
+
+    @Column(name = "hire_date")
+    private LocalDate hireDate;
+
+    @Column(name = "salary")
+    private BigDecimal salary;
+
+    @Column(name = "job_title")
+    private String jobTitle;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+}
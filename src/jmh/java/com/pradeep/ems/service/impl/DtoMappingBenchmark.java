@@ -0,0 +1,55 @@
+package com.pradeep.ems.service.impl;
+
+import com.pradeep.ems.benchmark.BenchmarkData;
+import com.pradeep.ems.dto.response.DepartmentResponseDto;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.entity.Department;
+import com.pradeep.ems.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping used by every read endpoint.
+ * Repositories are not touched: the department has a head count, so convertToDto never falls back to COUNT.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private EmployeeServiceImpl employeeService;
+    private DepartmentServiceImpl departmentService;
+    private Employee employee;
+    private Department department;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeServiceImpl(null, null, null, null, null, null, null, null, null);
+        departmentService = new DepartmentServiceImpl(null, null, null, null);
+        department = BenchmarkData.department(1);
+        employee = BenchmarkData.employee(1, department);
+    }
+
+    @Benchmark
+    public EmployeeResponseDto employeeMapToDto() {
+        return employeeService.mapToDto(employee);
+    }
+
+    @Benchmark
+    public DepartmentResponseDto departmentConvertToDto() {
+        return departmentService.convertToDto(department);
+    }
+}
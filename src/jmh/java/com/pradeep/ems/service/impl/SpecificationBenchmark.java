@@ -0,0 +1,45 @@
+package com.pradeep.ems.service.impl;
+
+import com.pradeep.ems.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specification construction in getAllEmployees (composition only - no CriteriaBuilder involved)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationBenchmark {
+
+    private String search = "Kumar";
+    private Long departmentId = 7L;
+
+    @Benchmark
+    public Specification<Employee> noFilters() {
+        return EmployeeServiceImpl.buildSpecification(null, null);
+    }
+
+    @Benchmark
+    public Specification<Employee> searchOnly() {
+        return EmployeeServiceImpl.buildSpecification(search, null);
+    }
+
+    @Benchmark
+    public Specification<Employee> searchAndDepartment() {
+        return EmployeeServiceImpl.buildSpecification(search, departmentId);
+    }
+}
@@ -2,15 +2,23 @@ package com.pradeep.ems;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableCaching  // Enable Spring Cache abstraction
+@EnableScheduling  // Replica health checks and other background jobs
 public class EmployeeManagementApplication {
 
+	// Startup steps kept for /actuator/startup (a full start records under 1000)
+	private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EmployeeManagementApplication.class, args);
+		SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.pradeep.ems.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pradeep.ems.datasource.ReadYourWritesTracker;
+import com.pradeep.ems.dto.response.ApiResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for /api/**: per-principal rate limits (429), then load shedding (503).
+ *
+ * Registered without an order, so it runs after the Spring Security chain and the principal
+ * is the authenticated JWT subject. Rejected requests never reach a controller, and so never
+ * take a pooled connection. Both answers carry Retry-After.
+ *
+ * Metrics: ems.admission.rejected (tagged with class and reason).
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final AdmissionProperties properties;
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(path(request));
+
+        String principal = ReadYourWritesTracker.currentPrincipal();
+        if (principal != null) {
+            long waitNanos = rateLimiter.tryAcquire(principal, endpointClass);
+            if (waitNanos > 0) {
+                reject(response, endpointClass, RejectionReason.RATE_LIMIT, waitNanos,
+                        "Rate limit exceeded for " + endpointClass.name().toLowerCase() + " requests");
+                return;
+            }
+        }
+
+        RejectionReason shed = loadShedder.tryAdmit(endpointClass);
+        if (shed != null) {
+            reject(response, endpointClass, shed, properties.getShedding().getRetryAfter().toNanos(),
+                    "Server is overloaded, please retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.release(endpointClass);
+        }
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, RejectionReason reason,
+                        long retryAfterNanos, String message) throws IOException {
+        Counter.builder("ems.admission.rejected")
+                .description("Requests turned away by admission control")
+                .tag("class", endpointClass.name().toLowerCase())
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        log.debug("Rejected {} request: {}", endpointClass, reason);
+
+        HttpStatus status = reason == RejectionReason.RATE_LIMIT ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(Math.min(retryAfterNanos, TimeUnit.HOURS.toNanos(1)) + 999_999_999));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponseDto.<String>builder()
+                .success(false)
+                .message(message)
+                .data(null)
+                .build());
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
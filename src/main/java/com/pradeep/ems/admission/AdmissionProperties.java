@@ -0,0 +1,106 @@
+package com.pradeep.ems.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admission control settings (ems.admission.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    private RateLimit rateLimit = new RateLimit();
+    private Shedding shedding = new Shedding();
+
+    /**
+     * Token buckets per (principal, endpoint class), answered with 429
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+
+        /**
+         * Bucket per endpoint class, merged with the defaults
+         */
+        private Map<EndpointClass, Bucket> buckets = defaultBuckets();
+
+        /**
+         * Buckets untouched this long are dropped (and start full again)
+         */
+        private Duration idleExpiry = Duration.ofMinutes(10);
+
+        private static Map<EndpointClass, Bucket> defaultBuckets() {
+            Map<EndpointClass, Bucket> buckets = new EnumMap<>(EndpointClass.class);
+            buckets.put(EndpointClass.INTERACTIVE, new Bucket(50, 20));
+            buckets.put(EndpointClass.REPORT, new Bucket(10, 1));
+            buckets.put(EndpointClass.EXPORT, new Bucket(20, 5));
+            return buckets;
+        }
+    }
+
+    /**
+     * A principal may burst up to capacity requests, then gets refillPerSecond on average
+     */
+    @Getter
+    @Setter
+    public static class Bucket {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    /**
+     * Server-wide load shedding, answered with 503. Low-priority classes (reports, exports)
+     * are shed at the lower thresholds, interactive requests only at the critical ones.
+     */
+    @Getter
+    @Setter
+    public static class Shedding {
+        private boolean enabled = true;
+
+        /**
+         * Requests in flight across all classes beyond which everything is shed;
+         * keep it below server.tomcat.threads.max (200)
+         */
+        private int maxInFlight = 150;
+
+        /**
+         * Requests in flight beyond which reports and exports are shed
+         */
+        private int lowPriorityMaxInFlight = 30;
+
+        /**
+         * Mean connection wait over the last sample beyond which reports and exports are shed
+         */
+        private Duration poolWaitThreshold = Duration.ofMillis(50);
+
+        /**
+         * Mean connection wait beyond which everything is shed
+         */
+        private Duration poolWaitCritical = Duration.ofMillis(500);
+
+        /**
+         * Pools interactive traffic does not share (dedicated workload pools)
+         */
+        private List<String> ignoredPools = List.of("reporting", "batch");
+
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.pradeep.ems.admission;
+
+/**
+ * Request classes with their own rate limits; low-priority classes are shed first under load
+ */
+public enum EndpointClass {
+
+    /** UI lookups and writes - everything not listed below */
+    INTERACTIVE(false),
+
+    /** /api/v1/reports - aggregations over the whole table */
+    REPORT(true),
+
+    /** /api/v1/sync and /api/v1/changes - bulk paging and change streams */
+    EXPORT(true);
+
+    private final boolean lowPriority;
+
+    EndpointClass(boolean lowPriority) {
+        this.lowPriority = lowPriority;
+    }
+
+    public boolean isLowPriority() {
+        return lowPriority;
+    }
+
+    /**
+     * Class of a request path (without the context path)
+     */
+    public static EndpointClass of(String path) {
+        if (path.startsWith("/api/v1/reports/")) {
+            return REPORT;
+        }
+        if (path.startsWith("/api/v1/sync/") || path.startsWith("/api/v1/changes/")) {
+            return EXPORT;
+        }
+        return INTERACTIVE;
+    }
+}
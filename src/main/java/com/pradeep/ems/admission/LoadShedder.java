@@ -0,0 +1,117 @@
+package com.pradeep.ems.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load Shedder
+ *
+ * Turns requests away before they queue for a Tomcat thread or a pooled connection, based on
+ * two signals (see AdmissionProperties.Shedding for the thresholds):
+ * - requests in flight, counted per endpoint class
+ * - mean Hikari connection wait since the last sample, read from hikaricp.connections.acquire
+ *   of every pool interactive traffic shares
+ * Reports and exports are shed at the lower thresholds, so interactive requests keep the
+ * remaining capacity.
+ *
+ * Metrics: ems.admission.in-flight (per class), ems.admission.pool.wait.
+ */
+@Component
+public class LoadShedder {
+
+    private final AdmissionProperties.Shedding properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<EndpointClass, AtomicInteger> inFlightByClass = new EnumMap<>(EndpointClass.class);
+    private final Map<String, PoolSample> lastSamples = new HashMap<>();
+
+    private volatile long poolWaitNanos;
+
+    public LoadShedder(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getShedding();
+        this.meterRegistry = meterRegistry;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AtomicInteger count = new AtomicInteger();
+            inFlightByClass.put(endpointClass, count);
+            Gauge.builder("ems.admission.in-flight", count, AtomicInteger::get)
+                    .description("Requests currently admitted")
+                    .tag("class", endpointClass.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("ems.admission.pool.wait", this, shedder -> shedder.poolWaitNanos / 1e9)
+                .baseUnit("seconds")
+                .description("Mean connection wait over the last sample, worst shared pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits the request (the caller must release() it) or returns why it is shed
+     */
+    public RejectionReason tryAdmit(EndpointClass endpointClass) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        long wait = poolWaitNanos;
+        if (wait >= properties.getPoolWaitCritical().toNanos()
+                || (endpointClass.isLowPriority() && wait >= properties.getPoolWaitThreshold().toNanos())) {
+            return RejectionReason.POOL_WAIT;
+        }
+        int limit = endpointClass.isLowPriority() ? properties.getLowPriorityMaxInFlight() : properties.getMaxInFlight();
+        if (inFlight.incrementAndGet() > limit) {
+            inFlight.decrementAndGet();
+            return RejectionReason.IN_FLIGHT;
+        }
+        inFlightByClass.get(endpointClass).incrementAndGet();
+        return null;
+    }
+
+    public void release(EndpointClass endpointClass) {
+        inFlightByClass.get(endpointClass).decrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Mean acquire time per pool since the previous sample; the worst pool wins. A pool with
+     * waiting threads but no completed acquisition counts as waiting the whole interval.
+     */
+    @Scheduled(fixedDelayString = "${ems.admission.shedding.sample-interval-ms:1000}")
+    public synchronized void samplePoolWait() {
+        long now = System.nanoTime();
+        long worst = 0;
+        for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            String pool = timer.getId().getTag("pool");
+            if (pool == null || properties.getIgnoredPools().contains(pool)) {
+                continue;
+            }
+            PoolSample current = new PoolSample(timer.count(), timer.totalTime(TimeUnit.NANOSECONDS), now);
+            PoolSample previous = lastSamples.put(pool, current);
+            if (previous == null) {
+                continue;
+            }
+            long acquired = current.count() - previous.count();
+            if (acquired > 0) {
+                worst = Math.max(worst, (long) ((current.totalNanos() - previous.totalNanos()) / acquired));
+            } else if (pending(pool) > 0) {
+                worst = Math.max(worst, now - previous.sampledAt());
+            }
+        }
+        poolWaitNanos = worst;
+    }
+
+    private double pending(String pool) {
+        Gauge gauge = meterRegistry.find("hikaricp.connections.pending").tag("pool", pool).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+
+    private record PoolSample(long count, double totalNanos, long sampledAt) {
+    }
+}
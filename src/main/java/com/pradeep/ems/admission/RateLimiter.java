@@ -0,0 +1,50 @@
+package com.pradeep.ems.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * One token bucket per (principal, endpoint class), so a single user flooding one class of
+ * endpoints is throttled without touching anyone else - or their own interactive traffic.
+ *
+ * Buckets live in a Caffeine cache and expire once idle, so memory follows active users.
+ *
+ * Metrics: ems.admission.rate-limit.buckets (buckets currently held).
+ */
+@Component
+public class RateLimiter {
+
+    private final AdmissionProperties.RateLimit properties;
+    private final Cache<Key, TokenBucket> buckets;
+
+    public RateLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getRateLimit();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(this.properties.getIdleExpiry())
+                .maximumSize(100_000)
+                .build();
+        Gauge.builder("ems.admission.rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("Token buckets held for recently active principals")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token for the principal: 0 when admitted, otherwise the nanos until a retry can succeed
+     */
+    public long tryAcquire(String principal, EndpointClass endpointClass) {
+        AdmissionProperties.Bucket limit = properties.getBuckets().get(endpointClass);
+        if (!properties.isEnabled() || limit == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        return buckets.get(new Key(principal, endpointClass),
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now))
+                .tryAcquire(now);
+    }
+
+    private record Key(String principal, EndpointClass endpointClass) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.pradeep.ems.admission;
+
+/**
+ * Why a request was turned away, as tagged on ems.admission.rejected
+ */
+public enum RejectionReason {
+
+    /** The principal's token bucket for the endpoint class is empty (429) */
+    RATE_LIMIT,
+
+    /** Too many requests in flight for the endpoint class's priority (503) */
+    IN_FLIGHT,
+
+    /** Connection waits on the shared pools are too long for the endpoint class's priority (503) */
+    POOL_WAIT
+}
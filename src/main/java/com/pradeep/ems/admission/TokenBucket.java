@@ -0,0 +1,33 @@
+package com.pradeep.ems.admission;
+
+/**
+ * Token bucket refilled lazily on each acquire, from a caller-supplied nanoTime
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1e9;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes a token: 0 when one was available, otherwise the nanos until the next one
+     * (Long.MAX_VALUE for a bucket that never refills)
+     */
+    synchronized long tryAcquire(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return tokensPerNano > 0 ? Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano)) : Long.MAX_VALUE;
+    }
+}
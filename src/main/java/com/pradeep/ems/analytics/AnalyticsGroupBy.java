@@ -0,0 +1,10 @@
+package com.pradeep.ems.analytics;
+
+public enum AnalyticsGroupBy {
+    NONE,
+    STATUS,
+    DEPARTMENT,
+    JOB_TITLE,
+    HIRE_YEAR,
+    HIRE_MONTH
+}
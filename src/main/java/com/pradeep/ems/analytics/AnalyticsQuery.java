@@ -0,0 +1,24 @@
+package com.pradeep.ems.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters (all optional, ANDed; list filters match any of their values) and the grouping
+ * for one analytics query. Salary and hire date bounds are inclusive and exclude rows
+ * without a salary or hire date.
+ */
+public record AnalyticsQuery(AnalyticsGroupBy groupBy,
+                             List<String> statuses,
+                             List<Long> departmentIds,
+                             List<String> jobTitles,
+                             BigDecimal minSalary,
+                             BigDecimal maxSalary,
+                             LocalDate hiredFrom,
+                             LocalDate hiredTo) {
+
+    public AnalyticsQuery {
+        groupBy = groupBy != null ? groupBy : AnalyticsGroupBy.NONE;
+    }
+}
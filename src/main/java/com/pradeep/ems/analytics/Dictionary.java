@@ -0,0 +1,42 @@
+package com.pradeep.ems.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for a low-cardinality column: each distinct value (null included)
+ * gets a dense int code, so the column is an int[] and group-bys index plain arrays.
+ * Codes are never reused or removed.
+ */
+final class Dictionary<T> {
+
+    private final Map<T, Integer> codes = new HashMap<>();
+    private final List<T> values = new ArrayList<>();
+
+    int encode(T value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Code of an existing value, or -1
+     */
+    int code(T value) {
+        return codes.getOrDefault(value, -1);
+    }
+
+    T value(int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
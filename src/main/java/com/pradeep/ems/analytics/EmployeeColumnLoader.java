@@ -0,0 +1,44 @@
+package com.pradeep.ems.analytics;
+
+import com.pradeep.ems.datasource.ReadFromPrimary;
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+
+/**
+ * Streams the analysed columns out of Postgres with a cursor (see TypeaheadIndexLoader).
+ */
+@Component
+@RequiredArgsConstructor
+class EmployeeColumnLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${ems.analytics.fetch-size:10000}")
+    private int fetchSize = 10000;
+
+    // Changes committed before the load started are not replayed, so the scan must see them all
+    @ReadFromPrimary
+    @Workload(WorkloadType.BATCH)
+    @Transactional(readOnly = true)
+    public EmployeeColumns load() {
+        Integer expected = jdbcTemplate.queryForObject("SELECT CAST(reltuples AS int) FROM pg_class WHERE relname = 'employees'", Integer.class);
+        EmployeeColumns columns = new EmployeeColumns(expected != null ? (int) (expected * 1.1) : 0);
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        streaming.query("SELECT id, salary, hire_date, status, department_id, job_title FROM employees",
+                (RowCallbackHandler) rs -> {
+                    Date hireDate = rs.getDate(3);
+                    columns.upsert(rs.getLong(1), rs.getBigDecimal(2), hireDate != null ? hireDate.toLocalDate() : null,
+                            rs.getString(4), rs.getObject(5, Long.class), rs.getString(6));
+                });
+        return columns;
+    }
+}
@@ -0,0 +1,168 @@
+package com.pradeep.ems.analytics;
+
+import com.pradeep.ems.dto.response.AnalyticsGroupDto;
+import com.pradeep.ems.dto.response.AnalyticsResultDto;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Employee Column Store
+ *
+ * Keeps an EmployeeColumns snapshot of all employees for ad-hoc analytics, loaded by one
+ * streaming scan after startup and then kept current from committed EmployeeChangedEvents.
+ * Changes committed while the load runs are queued and replayed on top of it; replaying
+ * is idempotent, so a change the scan already saw does no harm.
+ *
+ * Queries share a read lock and scan in parallel; event application takes the write lock
+ * for the few microseconds an upsert needs. Until the load finishes isReady() is false.
+ *
+ * Metrics: ems.analytics.memory (bytes held by the column arrays), ems.analytics.rows.
+ */
+@Component
+@Slf4j
+public class EmployeeColumnStore {
+
+    private final EmployeeColumnLoader loader;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<EmployeeChangedEvent> pending = new ArrayList<>();
+
+    @Value("${ems.analytics.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile EmployeeColumns columns;  // null until loaded
+    private boolean loading;  // guarded by the write lock
+
+    public EmployeeColumnStore(EmployeeColumnLoader loader, MeterRegistry meterRegistry) {
+        this.loader = loader;
+        Gauge.builder("ems.analytics.memory", this, store -> store.columns != null ? store.columns.memoryBytes() : 0)
+                .baseUnit("bytes")
+                .description("Heap held by the analytics column arrays")
+                .register(meterRegistry);
+        Gauge.builder("ems.analytics.rows", this, store -> store.columns != null ? store.columns.liveRows() : 0)
+                .description("Employees in the analytics snapshot")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return columns != null;
+    }
+
+    /**
+     * Runs the query against the snapshot; callers check isReady() first
+     */
+    public AnalyticsResultDto query(AnalyticsQuery query) {
+        long start = System.nanoTime();
+        EmployeeColumns.Result result;
+        lock.readLock().lock();
+        try {
+            result = columns.query(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return AnalyticsResultDto.builder()
+                .groupBy(query.groupBy().name())
+                .groups(result.groups().stream().map(EmployeeColumnStore::toDto).toList())
+                .matchedEmployees(result.groups().stream().mapToLong(EmployeeColumns.Group::count).sum())
+                .scannedRows(result.scannedRows())
+                .tookMicros((System.nanoTime() - start) / 1_000)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Thread thread = new Thread(this::load, "analytics-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                pending.add(event);
+            } else if (columns != null) {
+                apply(columns, event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        EmployeeColumns loaded = null;
+        try {
+            loaded = loader.load();
+        } catch (RuntimeException e) {
+            log.error("Analytics snapshot load failed - analytics stays unavailable", e);
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded != null) {
+                for (EmployeeChangedEvent event : pending) {
+                    apply(loaded, event);
+                }
+                columns = loaded;
+            }
+            pending.clear();
+            loading = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (loaded != null) {
+            log.info("Analytics snapshot loaded: {} employees, {} KB, {} ms", loaded.liveRows(),
+                    loaded.memoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static AnalyticsGroupDto toDto(EmployeeColumns.Group group) {
+        boolean salaries = group.salaryCount() > 0;
+        return AnalyticsGroupDto.builder()
+                .key(group.key())
+                .count(group.count())
+                .totalSalary(salaries ? BigDecimal.valueOf(group.salarySumCents(), 2) : null)
+                .averageSalary(salaries ? BigDecimal.valueOf(group.salarySumCents(), 2)
+                        .divide(BigDecimal.valueOf(group.salaryCount()), 2, RoundingMode.HALF_UP) : null)
+                .minSalary(salaries ? BigDecimal.valueOf(group.salaryMinCents(), 2) : null)
+                .maxSalary(salaries ? BigDecimal.valueOf(group.salaryMaxCents(), 2) : null)
+                .build();
+    }
+
+    private static void apply(EmployeeColumns columns, EmployeeChangedEvent event) {
+        EmployeeResponseDto after = event.after();
+        if (after == null) {
+            columns.delete(event.employeeId());
+        } else {
+            columns.upsert(event.employeeId(), after.getSalary(), after.getHireDate(), after.getStatus(),
+                    after.getDepartmentId(), after.getJobTitle());
+        }
+    }
+}
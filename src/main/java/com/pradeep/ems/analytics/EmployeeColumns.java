@@ -0,0 +1,292 @@
+package com.pradeep.ems.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar copy of the employee attributes analysts filter and group on. One row per
+ * employee, one primitive array per column:
+ * - salary in cents (long), hire date as epoch day (int)
+ * - status, department and job title dictionary-encoded (int codes)
+ * Deleted employees are tombstoned in place; their rows are reclaimed by the next reload.
+ *
+ * Not thread-safe: EmployeeColumnStore serialises writers against readers.
+ */
+final class EmployeeColumns {
+
+    static final long NULL_SALARY = Long.MIN_VALUE;
+    static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final int CHUNK_ROWS = 1 << 16;
+
+    private final IdIndex index;
+    private final Dictionary<String> statuses = new Dictionary<>();
+    private final Dictionary<Long> departments = new Dictionary<>();
+    private final Dictionary<String> jobTitles = new Dictionary<>();
+
+    private long[] salaryCents;
+    private int[] hireDay;
+    private int[] status;
+    private int[] department;
+    private int[] jobTitle;
+    private boolean[] deleted;
+    private int rows;
+    private int liveRows;
+    private int minHireDay = Integer.MAX_VALUE;
+    private int maxHireDay = Integer.MIN_VALUE;
+
+    EmployeeColumns(int expectedRows) {
+        int capacity = Math.max(1024, expectedRows);
+        index = new IdIndex(capacity);
+        salaryCents = new long[capacity];
+        hireDay = new int[capacity];
+        status = new int[capacity];
+        department = new int[capacity];
+        jobTitle = new int[capacity];
+        deleted = new boolean[capacity];
+    }
+
+    void upsert(long id, BigDecimal salary, LocalDate hireDate, String statusValue, Long departmentId, String jobTitleValue) {
+        int row = index.get(id);
+        if (row < 0) {
+            if (rows == deleted.length) {
+                grow();
+            }
+            row = rows++;
+            index.put(id, row);
+            liveRows++;
+        } else if (deleted[row]) {
+            deleted[row] = false;
+            liveRows++;
+        }
+        salaryCents[row] = salary == null ? NULL_SALARY : salary.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+        hireDay[row] = hireDate == null ? NULL_DATE : (int) hireDate.toEpochDay();
+        if (hireDate != null) {
+            minHireDay = Math.min(minHireDay, hireDay[row]);
+            maxHireDay = Math.max(maxHireDay, hireDay[row]);
+        }
+        status[row] = statuses.encode(statusValue);
+        department[row] = departments.encode(departmentId);
+        jobTitle[row] = jobTitles.encode(jobTitleValue);
+    }
+
+    void delete(long id) {
+        int row = index.get(id);
+        if (row >= 0 && !deleted[row]) {
+            deleted[row] = true;
+            liveRows--;
+        }
+    }
+
+    int liveRows() {
+        return liveRows;
+    }
+
+    long memoryBytes() {
+        return index.memoryBytes() + (long) deleted.length * (8 + 4 + 4 + 4 + 4 + 1);
+    }
+
+    /**
+     * Runs the query as a parallel scan: every chunk of rows aggregates into its own
+     * accumulators, which are merged at the end - no shared mutable state between threads
+     */
+    Result query(AnalyticsQuery query) {
+        Plan plan = new Plan(query);
+        int chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        Accumulator total = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> scan(plan, chunk * CHUNK_ROWS, Math.min(rows, (chunk + 1) * CHUNK_ROWS)))
+                .reduce(Accumulator::merge)
+                .orElseGet(() -> new Accumulator(plan.groups));
+
+        List<Group> groups = new ArrayList<>();
+        for (int g = 0; g < plan.groups; g++) {
+            if (total.count[g] > 0) {
+                groups.add(new Group(plan.keys[g], total.count[g], total.salaryCount[g], total.salarySum[g],
+                        total.salaryMin[g], total.salaryMax[g]));
+            }
+        }
+        return new Result(groups, rows);
+    }
+
+    private Accumulator scan(Plan plan, int from, int to) {
+        Accumulator acc = new Accumulator(plan.groups);
+        for (int i = from; i < to; i++) {
+            if (deleted[i]
+                    || (plan.statusAllowed != null && !plan.statusAllowed[status[i]])
+                    || (plan.departmentAllowed != null && !plan.departmentAllowed[department[i]])
+                    || (plan.jobTitleAllowed != null && !plan.jobTitleAllowed[jobTitle[i]])) {
+                continue;
+            }
+            long salary = salaryCents[i];
+            if (plan.salaryFiltered && (salary == NULL_SALARY || salary < plan.minCents || salary > plan.maxCents)) {
+                continue;
+            }
+            int day = hireDay[i];
+            if (plan.dateFiltered && (day == NULL_DATE || day < plan.fromDay || day > plan.toDay)) {
+                continue;
+            }
+            int group = switch (plan.groupBy) {
+                case NONE -> 0;
+                case STATUS -> status[i];
+                case DEPARTMENT -> department[i];
+                case JOB_TITLE -> jobTitle[i];
+                case HIRE_YEAR, HIRE_MONTH -> day == NULL_DATE ? plan.groups - 1 : plan.dayGroup[day - minHireDay];
+            };
+            acc.add(group, salary);
+        }
+        return acc;
+    }
+
+    private void grow() {
+        int capacity = deleted.length * 2;
+        salaryCents = Arrays.copyOf(salaryCents, capacity);
+        hireDay = Arrays.copyOf(hireDay, capacity);
+        status = Arrays.copyOf(status, capacity);
+        department = Arrays.copyOf(department, capacity);
+        jobTitle = Arrays.copyOf(jobTitle, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+    }
+
+    /**
+     * A query translated to codes and day numbers once, before the scan
+     */
+    private final class Plan {
+
+        final AnalyticsGroupBy groupBy;
+        final boolean[] statusAllowed;
+        final boolean[] departmentAllowed;
+        final boolean[] jobTitleAllowed;
+        final boolean salaryFiltered;
+        final long minCents;
+        final long maxCents;
+        final boolean dateFiltered;
+        final int fromDay;
+        final int toDay;
+        int[] dayGroup;
+        int groups;
+        String[] keys;
+
+        Plan(AnalyticsQuery query) {
+            groupBy = query.groupBy();
+            statusAllowed = allowed(statuses, query.statuses());
+            departmentAllowed = allowed(departments, query.departmentIds());
+            jobTitleAllowed = allowed(jobTitles, query.jobTitles());
+            salaryFiltered = query.minSalary() != null || query.maxSalary() != null;
+            minCents = query.minSalary() == null ? Long.MIN_VALUE + 1 : query.minSalary().movePointRight(2).longValue();
+            maxCents = query.maxSalary() == null ? Long.MAX_VALUE : query.maxSalary().movePointRight(2).longValue();
+            dateFiltered = query.hiredFrom() != null || query.hiredTo() != null;
+            fromDay = query.hiredFrom() == null ? Integer.MIN_VALUE + 1 : (int) query.hiredFrom().toEpochDay();
+            toDay = query.hiredTo() == null ? Integer.MAX_VALUE : (int) query.hiredTo().toEpochDay();
+
+            switch (groupBy) {
+                case NONE -> keys = new String[] {"all"};
+                case STATUS -> keys = keys(statuses);
+                case DEPARTMENT -> keys = keys(departments);
+                case JOB_TITLE -> keys = keys(jobTitles);
+                case HIRE_YEAR, HIRE_MONTH -> timeGroups(groupBy == AnalyticsGroupBy.HIRE_MONTH);
+            }
+            groups = keys.length;
+        }
+
+        /**
+         * Day-to-bucket lookup table over the hire date range, so the scan never converts dates;
+         * the last bucket holds employees without a hire date
+         */
+        private void timeGroups(boolean monthly) {
+            List<String> bucketKeys = new ArrayList<>();
+            if (minHireDay <= maxHireDay) {
+                dayGroup = new int[maxHireDay - minHireDay + 1];
+                String current = null;
+                for (int day = minHireDay; day <= maxHireDay; day++) {
+                    LocalDate date = LocalDate.ofEpochDay(day);
+                    String key = monthly ? String.format("%d-%02d", date.getYear(), date.getMonthValue())
+                            : Integer.toString(date.getYear());
+                    if (!key.equals(current)) {
+                        bucketKeys.add(key);
+                        current = key;
+                    }
+                    dayGroup[day - minHireDay] = bucketKeys.size() - 1;
+                }
+            }
+            bucketKeys.add("(none)");
+            keys = bucketKeys.toArray(String[]::new);
+        }
+
+        private static <T> String[] keys(Dictionary<T> dictionary) {
+            String[] keys = new String[dictionary.size()];
+            for (int code = 0; code < keys.length; code++) {
+                T value = dictionary.value(code);
+                keys[code] = value == null ? "(none)" : value.toString();
+            }
+            return keys;
+        }
+
+        private static <T> boolean[] allowed(Dictionary<T> dictionary, List<T> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            boolean[] allowed = new boolean[dictionary.size()];
+            for (T value : values) {
+                int code = dictionary.code(value);
+                if (code >= 0) {
+                    allowed[code] = true;
+                }
+            }
+            return allowed;
+        }
+    }
+
+    private static final class Accumulator {
+
+        final long[] count;
+        final long[] salaryCount;
+        final long[] salarySum;
+        final long[] salaryMin;
+        final long[] salaryMax;
+
+        Accumulator(int groups) {
+            count = new long[groups];
+            salaryCount = new long[groups];
+            salarySum = new long[groups];
+            salaryMin = new long[groups];
+            salaryMax = new long[groups];
+            Arrays.fill(salaryMin, Long.MAX_VALUE);
+            Arrays.fill(salaryMax, Long.MIN_VALUE);
+        }
+
+        void add(int group, long salary) {
+            count[group]++;
+            if (salary != NULL_SALARY) {
+                salaryCount[group]++;
+                salarySum[group] += salary;
+                salaryMin[group] = Math.min(salaryMin[group], salary);
+                salaryMax[group] = Math.max(salaryMax[group], salary);
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                salaryCount[g] += other.salaryCount[g];
+                salarySum[g] += other.salarySum[g];
+                salaryMin[g] = Math.min(salaryMin[g], other.salaryMin[g]);
+                salaryMax[g] = Math.max(salaryMax[g], other.salaryMax[g]);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Salary figures in cents; min/max are meaningless when salaryCount is 0
+     */
+    record Group(String key, long count, long salaryCount, long salarySumCents, long salaryMinCents, long salaryMaxCents) {
+    }
+
+    record Result(List<Group> groups, int scannedRows) {
+    }
+}
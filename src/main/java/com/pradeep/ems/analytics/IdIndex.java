@@ -0,0 +1,74 @@
+package com.pradeep.ems.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Employee id to row number, open addressing over primitive arrays - a HashMap<Long, Integer>
+ * would cost several times the memory of the columns it indexes
+ */
+final class IdIndex {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] rows;
+    private int size;
+
+    IdIndex(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        rows = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    int get(long id) {
+        int mask = keys.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                return rows[slot];
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    void put(long id, int row) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            size++;
+        }
+        keys[slot] = id;
+        rows[slot] = row;
+    }
+
+    long memoryBytes() {
+        return 12L * keys.length;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldRows = rows;
+        keys = new long[oldKeys.length * 2];
+        rows = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldRows[i]);
+            }
+        }
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,36 @@
+package com.pradeep.ems.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Employee archival settings (ems.archive.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Employees TERMINATED (by updated_at) longer ago than this are moved to the archive
+     */
+    private Duration terminatedFor = Duration.ofDays(365);
+
+    private int batchSize = 1_000;
+
+    /**
+     * Minimum pause between batches; a batch that took longer is followed by a pause as long
+     * as itself, so archival never keeps the database busy more than half of the time
+     */
+    private Duration batchPause = Duration.ofMillis(500);
+
+    /**
+     * Upper bound per run; the rest waits for the next run
+     */
+    private int maxBatchesPerRun = 100;
+}
@@ -0,0 +1,127 @@
+package com.pradeep.ems.archive;
+
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import com.pradeep.ems.repository.EmployeeArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Employee Archiver
+ *
+ * Moves employees terminated longer than ems.archive.terminated-for ago from employees into
+ * employees_archive, so the hot table and its indexes only hold employees people work with.
+ *
+ * Each batch is its own transaction: one DELETE ... RETURNING feeding an INSERT, plus an
+ * ARCHIVED EmployeeChangedEvent per employee so caches, indexes, sync tombstones and the
+ * outbox follow. Batches are throttled (see ArchiveProperties.batchPause) and run on the
+ * BATCH pool; rows locked by concurrent writers are skipped until the next run.
+ */
+@Component
+@EnableConfigurationProperties(ArchiveProperties.class)
+@Slf4j
+public class EmployeeArchiver {
+
+    private static final String EMPLOYEE_CACHE = "employees";
+    private static final String DEPARTMENT_EMPLOYEES_CACHE = "departmentEmployees";
+    private static final String COUNT_CACHE = "employeeCounts";
+
+    private final EmployeeArchiveRepository archiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+
+    public EmployeeArchiver(EmployeeArchiveRepository archiveRepository, ApplicationEventPublisher eventPublisher,
+                            CacheManager cacheManager, ArchiveProperties properties,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archived = Counter.builder("ems.archive.employees")
+                .description("Employees moved to the archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ems.archive.interval-ms:3600000}")
+    @Workload(WorkloadType.BATCH)
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getTerminatedFor());
+        long start = System.nanoTime();
+        int total = 0;
+        try {
+            LocalDateTime oldest = archiveRepository.oldestEligible(cutoff);
+            if (oldest == null) {
+                return;
+            }
+            archiveRepository.createPartitions(oldest, cutoff);
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                long batchStart = System.nanoTime();
+                int moved = archiveBatch(cutoff);
+                total += moved;
+                if (moved < properties.getBatchSize()) {
+                    break;
+                }
+                Thread.sleep(Math.max(properties.getBatchPause().toMillis(), (System.nanoTime() - batchStart) / 1_000_000));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.warn("Employee archival failed - retrying on the next run", e);
+        }
+        if (total > 0) {
+            log.info("Archived {} employees terminated before {} in {} ms", total, cutoff,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<EmployeeResponseDto> moved = transactionTemplate.execute(status -> {
+            List<EmployeeResponseDto> employees = archiveRepository.archiveBatch(cutoff, properties.getBatchSize(),
+                    LocalDateTime.now());
+            employees.forEach(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.archived(employee)));
+            return employees;
+        });
+        if (moved == null || moved.isEmpty()) {
+            return 0;
+        }
+        archived.increment(moved.size());
+        // Cached reads and CACHED listing totals would still count the employees as live
+        Cache employees = cacheManager.getCache(EMPLOYEE_CACHE);
+        if (employees != null) {
+            moved.forEach(employee -> employees.evict(employee.getId()));
+        }
+        Cache departmentEmployees = cacheManager.getCache(DEPARTMENT_EMPLOYEES_CACHE);
+        if (departmentEmployees != null) {
+            moved.stream().map(EmployeeResponseDto::getDepartmentId).filter(Objects::nonNull).distinct()
+                    .forEach(departmentEmployees::evict);
+        }
+        Cache counts = cacheManager.getCache(COUNT_CACHE);
+        if (counts != null) {
+            counts.clear();
+        }
+        return moved.size();
+    }
+}
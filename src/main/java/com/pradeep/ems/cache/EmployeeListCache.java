@@ -0,0 +1,122 @@
+package com.pradeep.ems.cache;
+
+import com.pradeep.ems.dto.response.CountStrategy;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.DepartmentChangedEvent;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Employee List Result Cache
+ *
+ * Caches the id list (plus paging metadata) of GET /api/v1/employees pages; the DTOs
+ * themselves are hydrated from the "employees" cache so each employee is cached once.
+ *
+ * Invalidation never scans keys. Every key embeds a generation counter:
+ * - department-filtered queries use that department's generation
+ * - all other queries use the global generation
+ * A committed write bumps the global generation and the generation of every department
+ * it touched (old and new department on a transfer), so stale keys are simply never
+ * looked up again and age out of the underlying Caffeine cache.
+ *
+ * filterKey() offers the same scheme to other caches derived from the listing filter.
+ *
+ * The key must be taken before the page is queried: a write that commits in between
+ * bumps the generation and the page is stored under a key nobody asks for any more.
+ * That only holds if the query sees every write committed before the key was taken, so
+ * pages are read from the primary, never from a lagging replica (@ReadFromPrimary).
+ */
+@Component
+public class EmployeeListCache {
+
+    public static final String CACHE_NAME = "employeeListPages";
+
+    private final CacheManager cacheManager;
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final Map<Long, AtomicLong> departmentGenerations = new ConcurrentHashMap<>();
+
+    @Value("${ems.employees.list-cache.enabled:true}")
+    private boolean enabled = true;
+
+    public EmployeeListCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Cache key for a page of the filtered listing, or null when the page should not be cached
+     */
+    public String keyFor(String normalizedSearch, Long departmentId, Pageable pageable, CountStrategy countStrategy) {
+        if (!enabled || pageable.isUnpaged()) {
+            return null;
+        }
+        return filterKey(normalizedSearch, departmentId)
+                + "|page=" + pageable.getPageNumber()
+                + "|size=" + pageable.getPageSize()
+                + "|sort=" + pageable.getSort()
+                + "|count=" + countStrategy;
+    }
+
+    /**
+     * Generation-stamped key for anything derived from the listing filter alone (e.g. facet counts),
+     * invalidated by the same writes as the pages
+     */
+    public String filterKey(String normalizedSearch, Long departmentId) {
+        long generation = departmentId != null ? generation(departmentId).get() : globalGeneration.get();
+        return "gen=" + generation
+                + "|search=" + normalizedSearch
+                + "|department=" + departmentId;
+    }
+
+    public CachedPage get(String key) {
+        Cache cache = cache();
+        return key == null || cache == null ? null : cache.get(key, CachedPage.class);
+    }
+
+    public void put(String key, CachedPage page) {
+        Cache cache = cache();
+        if (key != null && cache != null) {
+            cache.put(key, page);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        event.departmentIds().forEach(id -> generation(id).incrementAndGet());
+        globalGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (event.type() == ChangeType.CREATED) {
+            return;  // no employees yet
+        }
+        // A rename changes the departmentName of every listed employee, which sorting may depend on
+        generation(event.departmentId()).incrementAndGet();
+        globalGeneration.incrementAndGet();
+    }
+
+    private AtomicLong generation(Long departmentId) {
+        return departmentGenerations.computeIfAbsent(departmentId, id -> new AtomicLong());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * One cached page: the ids in page order, whether another page follows, and the total
+     * reported for the count strategy the page was requested with (null for NONE)
+     */
+    public record CachedPage(List<Long> ids, boolean hasNext, Long totalElements) {
+    }
+}
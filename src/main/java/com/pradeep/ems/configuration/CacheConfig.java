@@ -42,7 +42,10 @@ public class CacheConfig {
         cacheManager.setCacheNames(java.util.Arrays.asList(
             "departments",      // Cache for departments
             "employees",        // Cache for employees
-            "departmentEmployees"  // Cache for department-employee relationships
+            "departmentEmployees",  // Cache for department-employee relationships
+            "employeeCounts",   // Totals for CountStrategy.CACHED, keyed by normalized filter
+            "employeeListPages", // Id lists of filtered listing pages, see EmployeeListCache
+            "employeeFacets"    // Facet counts per listing filter, same generation keys
         ));
         
         return cacheManager;
@@ -2,8 +2,10 @@ package com.pradeep.ems.configuration;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,10 +15,12 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.SupplierJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)  // Not needed in command-line modes
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
@@ -31,7 +35,7 @@ public class SecurityConfig {
     private final com.pradeep.ems.configuration.CookieJwtExtractorFilter cookieJwtExtractorFilter;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> {}) // Enable CORS (uses CorsConfig bean)
@@ -45,6 +49,9 @@ public class SecurityConfig {
                     // Public endpoints
                     .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+
+                    // Startup timeline (bean names, timings); POST drains it - Admin only
+                    .requestMatchers("/actuator/startup").hasRole("ADMIN")
                     
                     // Admin only endpoints (future use)
                     .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
@@ -57,6 +64,12 @@ public class SecurityConfig {
                     
                     // Reports - Admin and HR only
                     .requestMatchers("/api/v1/reports/**").hasAnyRole("ADMIN", "HR")
+
+                    // Change feed carries full employee records - Admin and HR only
+                    .requestMatchers("/api/v1/changes/**").hasAnyRole("ADMIN", "HR")
+
+                    // Employee sync returns full employee records like /employees - Admin and HR only
+                    .requestMatchers("/api/v1/sync/employees/**").hasAnyRole("ADMIN", "HR")
                     
                     // All other API endpoints require authentication
                     .requestMatchers("/api/v1/**").authenticated()
@@ -66,7 +79,7 @@ public class SecurityConfig {
             )
             .oauth2ResourceServer(oauth2 -> oauth2
                     .jwt(jwt -> jwt
-                            .decoder(jwtDecoder())
+                            .decoder(jwtDecoder)
                             .jwtAuthenticationConverter(jwtAuthenticationConverter)
                     )
             )
@@ -75,21 +88,29 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Google ID token decoder; the loadtest profile replaces it with one trusting a local key.
+     * Built on the first token rather than at startup: the issuer discovery is an HTTP round
+     * trip, and the CDS training run in the Docker build has no network access to rely on.
+     */
     @Bean
+    @Profile("!loadtest")
     public JwtDecoder jwtDecoder() {
-        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
-        
-        // Add standard validators
-        OAuth2TokenValidator<Jwt> withIssuer = JwtValidators.createDefaultWithIssuer(issuerUri);
-        
-        // Add audience validation if client ID is configured
-        OAuth2TokenValidator<Jwt> audienceValidator = new AudienceValidator(clientId);
-        
-        // Combine validators
-        OAuth2TokenValidator<Jwt> withAudience = new DelegatingOAuth2TokenValidator<>(withIssuer, audienceValidator);
-        jwtDecoder.setJwtValidator(withAudience);
-        
-        return jwtDecoder;
+        return new SupplierJwtDecoder(() -> {
+            NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+
+            // Add standard validators
+            OAuth2TokenValidator<Jwt> withIssuer = JwtValidators.createDefaultWithIssuer(issuerUri);
+
+            // Add audience validation if client ID is configured
+            OAuth2TokenValidator<Jwt> audienceValidator = new AudienceValidator(clientId);
+
+            // Combine validators
+            OAuth2TokenValidator<Jwt> withAudience = new DelegatingOAuth2TokenValidator<>(withIssuer, audienceValidator);
+            jwtDecoder.setJwtValidator(withAudience);
+
+            return jwtDecoder;
+        });
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.pradeep.ems.controller;
+
+import com.pradeep.ems.dto.response.ApiResponseDto;
+import com.pradeep.ems.dto.response.QueryStatisticsReportDto;
+import com.pradeep.ems.service.QueryStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational APIs for administrators")
+public class AdminController {
+
+    private final QueryStatisticsService queryStatisticsService;
+
+    @GetMapping("/query-stats")
+    @Operation(summary = "Get query statistics", description = "Slowest and most frequent HQL/SQL statements since startup or the last reset")
+    public ResponseEntity<QueryStatisticsReportDto> getQueryStatistics(@RequestParam(defaultValue = "20") int limit) {
+        QueryStatisticsReportDto statistics = queryStatisticsService.getQueryStatistics(limit);
+        return ResponseEntity.ok(statistics);
+    }
+
+    @DeleteMapping("/query-stats")
+    @Operation(summary = "Reset query statistics", description = "Clear all collected Hibernate statistics")
+    public ResponseEntity<ApiResponseDto<String>> resetQueryStatistics() {
+        queryStatisticsService.resetQueryStatistics();
+
+        ApiResponseDto<String> response = ApiResponseDto.<String>builder()
+                .success(true)
+                .message("Query statistics reset successfully")
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.pradeep.ems.controller;
+
+import com.pradeep.ems.outbox.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Feed", description = "Committed employee and department changes as a server-sent event stream")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream changes", description = "Each 'changes' event carries a JSON array of changes in commit order; "
+            + "its id is the offset of the last one. Resume with Last-Event-ID (EventSource does this on reconnect) "
+            + "or ?after=<offset>; without either, only new changes are streamed. An 'expired' event means the "
+            + "offset is older than the retained outbox and the consumer must resync")
+    public SseEmitter streamChanges(
+            @Parameter(description = "Offset to resume after; 0 replays the whole retained outbox")
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : after);
+    }
+}
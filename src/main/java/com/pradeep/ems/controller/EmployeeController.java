@@ -1,20 +1,25 @@
 package com.pradeep.ems.controller;
 
 import com.pradeep.ems.dto.request.EmployeeRequestDto;
+import com.pradeep.ems.dto.request.PatchEmployeeRequestDto;
 import com.pradeep.ems.dto.request.UpdateEmployeeRequestDto;
 import com.pradeep.ems.dto.response.ApiResponseDto;
+import com.pradeep.ems.dto.response.CountStrategy;
 import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.EmployeeSuggestionDto;
+import com.pradeep.ems.dto.response.PageResponseDto;
+import com.pradeep.ems.dto.response.TopEarnerDto;
 import com.pradeep.ems.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -34,25 +39,61 @@ public class EmployeeController {
     private final EmployeeService employeeService;
 
     @GetMapping
-    @Operation(summary = "Get all employees", description = "Retrieve all employees with pagination and sorting")
-    public ResponseEntity<Page<EmployeeResponseDto>> getAllEmployees(
+    @Operation(summary = "Get all employees", description = "Retrieve all employees with pagination and sorting. "
+            + "countStrategy picks how totalElements is computed: EXACT, CACHED, ESTIMATED or NONE (hasNext only). "
+            + "facets=true adds counts by status, department and jobTitle for the same filter. "
+            + "includeArchived=true also searches archived (long-terminated) employees; facets then still cover "
+            + "current employees only, and totals are only computed with countStrategy=EXACT")
+    public ResponseEntity<PageResponseDto<EmployeeResponseDto>> getAllEmployees(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Long departmentId) {
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) CountStrategy countStrategy,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() :
                 Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<EmployeeResponseDto> employees = employeeService.getAllEmployees(pageable, search, departmentId);
+        PageResponseDto<EmployeeResponseDto> employees = includeArchived
+                ? employeeService.getAllEmployeesIncludingArchived(pageable, search, departmentId, countStrategy)
+                : employeeService.getAllEmployees(pageable, search, departmentId, countStrategy);
+        if (facets) {
+            employees.setFacets(employeeService.getEmployeeFacets(search, departmentId));
+        }
 
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete employees", description = "Prefix matches on any word of the name, the email "
+            + "or the employee ID, served from an in-memory index. limit defaults to 10, at most 50")
+    public ResponseEntity<List<EmployeeSuggestionDto>> autocompleteEmployees(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(employeeService.autocompleteEmployees(q, limit));
+    }
+
+    @GetMapping("/top-earners")
+    @Operation(summary = "Top earners", description = "Highest-paid active employees company-wide, "
+            + "served from an in-memory leaderboard. limit defaults to 10, at most 100")
+    public ResponseEntity<List<TopEarnerDto>> getTopEarners(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(employeeService.getTopEarners(null, limit));
+    }
+
+    @GetMapping("/top-earners/department/{departmentId}")
+    @Operation(summary = "Top earners by department", description = "Highest-paid active employees of one department")
+    public ResponseEntity<List<TopEarnerDto>> getTopEarnersByDepartment(
+            @PathVariable Long departmentId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(employeeService.getTopEarners(departmentId, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID")
     public ResponseEntity<EmployeeResponseDto> getEmployeeById(@PathVariable Long id) {
@@ -73,6 +114,25 @@ public class EmployeeController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update employee", description = "Writes only the supplied fields in a single UPDATE. "
+            + "version must be the one last read; if the employee changed since, the response is 409 with the current "
+            + "employee as data. A taken email or employee ID is also reported as 409")
+    public ResponseEntity<ApiResponseDto<EmployeeResponseDto>> patchEmployee(
+            @PathVariable Long id,
+            @Valid @RequestBody PatchEmployeeRequestDto patchEmployeeRequestDto) {
+
+        EmployeeResponseDto patchedEmployee = employeeService.patchEmployee(id, patchEmployeeRequestDto);
+
+        ApiResponseDto<EmployeeResponseDto> response = ApiResponseDto.<EmployeeResponseDto>builder()
+                .success(true)
+                .message("Employee updated successfully")
+                .data(patchedEmployee)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 //
 //    @PutMapping("/{id}")
 //    @Operation(summary = "Update employee", description = "Update an existing employee record")
@@ -4,7 +4,9 @@ package com.pradeep.ems.controller;
 
 import com.pradeep.ems.dto.response.ApiResponseDto;
 import com.pradeep.ems.exception.BadRequestException;
+import com.pradeep.ems.exception.ConflictException;
 import com.pradeep.ems.exception.ResourceNotFoundException;
+import com.pradeep.ems.exception.ServiceUnavailableException;
 import com.pradeep.ems.exception.UnauthorizedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -49,6 +51,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleConflictException(ConflictException ex) {
+        log.warn("Conflict: {}", ex.getMessage());
+
+        ApiResponseDto<Object> response = ApiResponseDto.<Object>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .data(ex.getCurrent())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponseDto<String>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+
+        ApiResponseDto<String> response = ApiResponseDto.<String>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .data(null)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ApiResponseDto<String>> handleUnauthorizedException(UnauthorizedException ex) {
         log.error("Unauthorized access: {}", ex.getMessage());
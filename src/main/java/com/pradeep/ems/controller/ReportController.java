@@ -0,0 +1,87 @@
+package com.pradeep.ems.controller;
+
+import com.pradeep.ems.analytics.AnalyticsGroupBy;
+import com.pradeep.ems.analytics.AnalyticsQuery;
+import com.pradeep.ems.dto.response.AnalyticsResultDto;
+import com.pradeep.ems.dto.response.DepartmentHeadcountReportDto;
+import com.pradeep.ems.dto.response.DepartmentSalaryReportDto;
+import com.pradeep.ems.dto.response.DepartmentStatusReportDto;
+import com.pradeep.ems.dto.response.ReportResponseDto;
+import com.pradeep.ems.dto.response.TimeBucket;
+import com.pradeep.ems.dto.response.TimeSeriesPointDto;
+import com.pradeep.ems.service.AnalyticsService;
+import com.pradeep.ems.service.ReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Departmental reports aggregated in the database")
+public class ReportController {
+
+    private final ReportService reportService;
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/departments/salary")
+    @Operation(summary = "Salary report", description = "Salary sum, average, min, max, median, p90 and p99 per department, "
+            + "with the department's share of total payroll and its rank by average salary")
+    public ResponseEntity<ReportResponseDto<DepartmentSalaryReportDto>> getSalaryReport() {
+        return ResponseEntity.ok(reportService.getDepartmentSalaryReport());
+    }
+
+    @GetMapping("/departments/headcount")
+    @Operation(summary = "Headcount report", description = "Total and active headcount per department, "
+            + "with the share of the company and the rank by headcount")
+    public ResponseEntity<ReportResponseDto<DepartmentHeadcountReportDto>> getHeadcountReport() {
+        return ResponseEntity.ok(reportService.getDepartmentHeadcountReport());
+    }
+
+    @GetMapping("/departments/status")
+    @Operation(summary = "Status distribution", description = "Headcount per department and status, "
+            + "with each status' share of the department")
+    public ResponseEntity<ReportResponseDto<DepartmentStatusReportDto>> getStatusReport() {
+        return ResponseEntity.ok(reportService.getDepartmentStatusReport());
+    }
+
+    @GetMapping("/timeseries/hiring")
+    @Operation(summary = "Hiring and attrition time series", description = "Hires, created records and terminations "
+            + "per week, month or quarter, company-wide or for one department. Defaults to monthly over the last year")
+    public ResponseEntity<ReportResponseDto<TimeSeriesPointDto>> getHiringTimeSeries(
+            @RequestParam(defaultValue = "MONTH") TimeBucket granularity,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getHiringTimeSeries(granularity, departmentId, from, to));
+    }
+
+    @GetMapping("/analytics")
+    @Operation(summary = "Ad-hoc employee analytics", description = "Count and salary total/average/min/max of the "
+            + "employees matching the filters, optionally grouped; answered from an in-memory snapshot")
+    public ResponseEntity<AnalyticsResultDto> getAnalytics(
+            @Parameter(description = "NONE, STATUS, DEPARTMENT, JOB_TITLE, HIRE_YEAR or HIRE_MONTH")
+            @RequestParam(defaultValue = "NONE") AnalyticsGroupBy groupBy,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<Long> departmentId,
+            @RequestParam(required = false) List<String> jobTitle,
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo) {
+        AnalyticsQuery query = new AnalyticsQuery(groupBy, status, departmentId, jobTitle,
+                minSalary, maxSalary, hiredFrom, hiredTo);
+        return ResponseEntity.ok(analyticsService.analyzeEmployees(query));
+    }
+}
@@ -0,0 +1,48 @@
+package com.pradeep.ems.controller;
+
+import com.pradeep.ems.dto.response.DepartmentResponseDto;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.SyncResponseDto;
+import com.pradeep.ems.service.DepartmentService;
+import com.pradeep.ems.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Tag(name = "Delta Sync", description = "Incremental pull of employees and departments changed since a watermark")
+public class SyncController {
+
+    private final EmployeeService employeeService;
+    private final DepartmentService departmentService;
+
+    @GetMapping("/employees")
+    @Operation(summary = "Sync employees", description = "Employees changed and ids deleted after the watermark, "
+            + "oldest first. Omit since for the initial full sync; then pass the returned watermark back")
+    public ResponseEntity<SyncResponseDto<EmployeeResponseDto>> syncEmployees(
+            @Parameter(description = "Watermark returned by the previous page")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Page size (default 500, max 5000)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(employeeService.syncEmployees(since, limit));
+    }
+
+    @GetMapping("/departments")
+    @Operation(summary = "Sync departments", description = "Departments changed and ids deleted after the watermark, "
+            + "oldest first. Omit since for the initial full sync; then pass the returned watermark back")
+    public ResponseEntity<SyncResponseDto<DepartmentResponseDto>> syncDepartments(
+            @Parameter(description = "Watermark returned by the previous page")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Page size (default 500, max 5000)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(departmentService.syncDepartments(since, limit));
+    }
+}
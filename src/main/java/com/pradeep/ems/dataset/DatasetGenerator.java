@@ -0,0 +1,312 @@
+package com.pradeep.ems.dataset;
+
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Generates departments and employees with production-like distributions and streams
+ * them into Postgres with COPY, which loads millions of rows in a fraction of the time
+ * JPA batching needs.
+ *
+ * Distributions:
+ * - department size: Zipf-like, a handful of departments hold most employees
+ * - status: 85% ACTIVE, 10% INACTIVE, 5% TERMINATED
+ * - hire date: 15 years back, skewed towards recent years (company growth)
+ * - salary: log-normal around a per-job-title median
+ *
+ * When employees is empty, its secondary indexes are dropped before the load and rebuilt
+ * afterwards, also when the load fails (building once is much cheaper than maintaining them
+ * row by row); a table that already has rows keeps its indexes. Then both tables
+ * are vacuumed and analyzed so the planner sees the new volume and index-only scans work.
+ * Primary keys and unique constraints are kept.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Priya", "Rahul", "Ananya", "Vikram", "Sneha", "Arjun",
+            "Kavya", "Rohan", "Meera", "Aditya", "Divya", "Karthik", "Lakshmi", "Sanjay", "Pooja", "John", "Emma",
+            "Liam", "Olivia", "Noah", "Sophia", "James", "Isabella", "Wei", "Yuki", "Carlos", "Fatima", "Ahmed", "Elena"};
+    private static final String[] LAST_NAMES = {"Sharma", "Patel", "Reddy", "Iyer", "Kumar", "Singh", "Gupta",
+            "Nair", "Rao", "Das", "Menon", "Joshi", "Mehta", "Chopra", "Bose", "Smith", "Johnson", "Brown", "Garcia",
+            "Miller", "Chen", "Tanaka", "Silva", "Khan", "Muller", "Rossi", "Novak", "Kim", "Nguyen", "Okafor"};
+    private static final String[] JOB_TITLES = {"Software Engineer", "Senior Software Engineer", "Staff Engineer",
+            "QA Engineer", "Product Manager", "Business Analyst", "HR Specialist", "Accountant", "Sales Executive",
+            "Support Engineer", "Engineering Manager", "Director"};
+    private static final int[] MEDIAN_SALARIES = {70_000, 105_000, 150_000, 60_000, 120_000, 75_000, 55_000,
+            65_000, 50_000, 45_000, 160_000, 220_000};
+    private static final int[] JOB_TITLE_WEIGHTS = {30, 15, 3, 8, 5, 6, 4, 4, 12, 10, 2, 1};
+    private static final String[] DEPARTMENT_AREAS = {"Engineering", "Quality", "Product", "Sales", "Support",
+            "Finance", "Human Resources", "Marketing", "Operations", "Legal", "Research", "Data"};
+    private static final String[] LOCATIONS = {"Hyderabad", "Bengaluru", "Pune", "Chennai", "London", "Austin",
+            "Berlin", "Singapore"};
+    private static final int FLUSH_BYTES = 1 << 16;
+
+    private final DataSource dataSource;
+
+    /**
+     * Adds {@code departments} departments and {@code employees} employees spread over them.
+     * Names, emails and employee ids carry a per-run tag, so repeated runs add to the tables.
+     */
+    @Workload(WorkloadType.BATCH)
+    public DatasetSummary generate(int departments, long employees, long seed, boolean rebuildIndexes) throws SQLException {
+        Random random = new Random(seed);
+        String tag = Long.toString(System.currentTimeMillis() % 2_176_782_336L, 36); // at most 6 chars
+        long start = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            List<Long> departmentIds = copyDepartments(connection, departments, tag, random);
+
+            List<String> droppedIndexes = rebuildIndexes && isEmpty(connection)
+                    ? dropSecondaryIndexes(connection) : List.of();
+            long loadMillis;
+            long indexStart;
+            try {
+                long loadStart = System.nanoTime();
+                copyEmployees(connection, employees, departmentIds, tag, random);
+                loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+            } finally {
+                // Also after a failed load: the definitions only live in this list
+                indexStart = System.nanoTime();
+                recreateIndexes(connection, droppedIndexes);
+            }
+            long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("VACUUM ANALYZE departments");
+                statement.execute("VACUUM ANALYZE employees");
+            }
+
+            DatasetSummary summary = new DatasetSummary(departments, employees, loadMillis, indexMillis,
+                    (System.nanoTime() - start) / 1_000_000);
+            log.info("Generated {} departments and {} employees: COPY {} ms ({} rows/s), indexes {} ms, total {} ms",
+                    departments, employees, loadMillis, loadMillis > 0 ? employees * 1000 / loadMillis : employees,
+                    indexMillis, summary.totalMillis());
+            return summary;
+        }
+    }
+
+    private List<Long> copyDepartments(Connection connection, int count, String tag, Random random) throws SQLException {
+        CopyIn copy = copyIn(connection, "COPY departments (name, description, location, budget, head_count, "
+                + "created_at, updated_at, version) FROM STDIN");
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String area = DEPARTMENT_AREAS[i % DEPARTMENT_AREAS.length];
+            // head_count stays 0 as for departments created through the API; "now" is a valid timestamp literal
+            rows.append(area).append(' ').append(tag).append('-').append(i).append('\t')
+                    .append(area).append(" team ").append(i / DEPARTMENT_AREAS.length).append('\t')
+                    .append(LOCATIONS[random.nextInt(LOCATIONS.length)]).append('\t')
+                    .append(500_000 + random.nextInt(20_000_000)).append(".00\t0\tnow\tnow\t0\n");
+            flushIfFull(copy, rows);
+        }
+        finish(copy, rows);
+
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM departments WHERE name LIKE ? ORDER BY id")) {
+            statement.setString(1, "% " + tag + "-%");
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void copyEmployees(Connection connection, long count, List<Long> departmentIds, String tag,
+                               Random random) throws SQLException {
+        double[] departmentCdf = zipfCdf(departmentIds.size(), 1.1);
+        double[] jobTitleCdf = weightsCdf(JOB_TITLE_WEIGHTS);
+        LocalDate today = LocalDate.now();
+
+        CopyIn copy = copyIn(connection, "COPY employees (name, email, employee_id, status, phone_number, address, "
+                + "hire_date, salary, job_title, department_id, created_at, updated_at, version) FROM STDIN");
+        StringBuilder rows = new StringBuilder(FLUSH_BYTES + 1024);
+        for (long i = 0; i < count; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            int jobTitle = pick(jobTitleCdf, random);
+            int statusRoll = random.nextInt(100);
+            // Exponential towards the present: ~half of the staff joined in the last 4 years
+            long daysAgo = Math.min(15 * 365, (long) (-Math.log(1 - random.nextDouble()) * 4 * 365 / Math.log(2)));
+            LocalDate hireDate = today.minusDays(daysAgo);
+            long salary = Math.round(MEDIAN_SALARIES[jobTitle] * Math.exp(random.nextGaussian() * 0.25));
+
+            rows.append(first).append(' ').append(last).append('\t')
+                    .append(first.toLowerCase()).append('.').append(last.toLowerCase()).append('.')
+                    .append(tag).append(i).append("@example.com\t")
+                    .append('E').append(tag).append(i).append('\t')
+                    .append(statusRoll < 85 ? "ACTIVE" : statusRoll < 95 ? "INACTIVE" : "TERMINATED").append('\t')
+                    .append("+91-").append(9_000_000_000L + random.nextInt(999_999_999)).append('\t')
+                    .append(1 + random.nextInt(900)).append(" Main Road, ")
+                    .append(LOCATIONS[random.nextInt(LOCATIONS.length)]).append('\t')
+                    .append(hireDate).append('\t')
+                    .append(salary).append(".00\t")
+                    .append(JOB_TITLES[jobTitle]).append('\t')
+                    .append(departmentIds.get(pick(departmentCdf, random))).append('\t')
+                    .append(hireDate).append("\tnow\t0\n");
+            flushIfFull(copy, rows);
+            if ((i + 1) % 1_000_000 == 0) {
+                log.info("... {} employees streamed", i + 1);
+            }
+        }
+        finish(copy, rows);
+    }
+
+    /**
+     * Indexes are only dropped for a load into an empty table: with rows in it the table may be
+     * serving queries, which would fall back to sequential scans until the rebuild finishes.
+     */
+    private static boolean isEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT NOT EXISTS (SELECT 1 FROM employees)")) {
+            rs.next();
+            if (rs.getBoolean(1)) {
+                return true;
+            }
+        }
+        log.info("Keeping the employee indexes: the table already has rows");
+        return false;
+    }
+
+    /**
+     * Drops every index on employees that does not back a constraint and returns the
+     * statements that recreate them. The statements are logged first, so a failed rebuild
+     * can be finished by hand.
+     */
+    private List<String> dropSecondaryIndexes(Connection connection) throws SQLException {
+        List<String> definitions = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT i.indexname, i.indexdef FROM pg_indexes i "
+                             + "WHERE i.schemaname = current_schema() AND i.tablename = 'employees' "
+                             + "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+                definitions.add(rs.getString(2));
+            }
+        }
+        log.info("Dropping {} secondary indexes for the load: {}; they are recreated with:{}", names.size(), names,
+                definitions.stream().map(definition -> System.lineSeparator() + "  " + definition + ";")
+                        .collect(Collectors.joining()));
+        List<String> dropped = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < names.size(); i++) {
+                statement.execute("DROP INDEX IF EXISTS \"" + names.get(i) + "\"");
+                dropped.add(definitions.get(i));
+            }
+        } catch (SQLException e) {
+            recreateIndexes(connection, dropped);
+            throw e;
+        }
+        return definitions;
+    }
+
+    /**
+     * Runs every definition, logging the ones that fail so they can be run by hand; the first
+     * failure is rethrown once all have been tried
+     */
+    private static void recreateIndexes(Connection connection, List<String> definitions) throws SQLException {
+        SQLException failure = null;
+        try (Statement statement = connection.createStatement()) {
+            for (String definition : definitions) {
+                try {
+                    statement.execute(definition);
+                } catch (SQLException e) {
+                    log.error("Could not recreate index, run by hand: {};", definition, e);
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static CopyIn copyIn(Connection connection, String sql) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+    }
+
+    private static void flushIfFull(CopyIn copy, StringBuilder rows) throws SQLException {
+        if (rows.length() >= FLUSH_BYTES) {
+            byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            rows.setLength(0);
+        }
+    }
+
+    private static void finish(CopyIn copy, StringBuilder rows) throws SQLException {
+        try {
+            byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+        rows.setLength(0);
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1 / Math.pow(k + 1, exponent);
+        }
+        return cdf(weights);
+    }
+
+    private static double[] weightsCdf(int[] weights) {
+        double[] values = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            values[i] = weights[i];
+        }
+        return cdf(values);
+    }
+
+    private static double[] cdf(double[] weights) {
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < cdf.length; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    public record DatasetSummary(int departments, long employees, long copyMillis, long indexMillis, long totalMillis) {
+    }
+}
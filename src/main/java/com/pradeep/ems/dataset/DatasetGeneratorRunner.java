@@ -0,0 +1,39 @@
+package com.pradeep.ems.dataset;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line mode: generates the dataset described by ems.dataset.* and exits.
+ *
+ * Example (5M employees into the local database, no web server):
+ *   java -jar ems.jar --spring.profiles.active=local --spring.main.web-application-type=none \
+ *       --ems.dataset.generate=true --ems.dataset.employees=5000000 --ems.dataset.departments=500
+ */
+@Component
+@ConditionalOnProperty(name = "ems.dataset.generate", havingValue = "true")
+@EnableConfigurationProperties(DatasetProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGenerator generator;
+    private final DatasetProperties properties;
+    private final ApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Generating {} departments and {} employees (seed {})",
+                properties.getDepartments(), properties.getEmployees(), properties.getSeed());
+        generator.generate(properties.getDepartments(), properties.getEmployees(), properties.getSeed(),
+                properties.isRebuildIndexes());
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,33 @@
+package com.pradeep.ems.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Synthetic dataset settings (ems.dataset.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.dataset")
+public class DatasetProperties {
+
+    /**
+     * Run the generator at startup and exit (command-line mode)
+     */
+    private boolean generate = false;
+
+    private int departments = 200;
+    private long employees = 1_000_000;
+
+    /**
+     * Random seed, so the same settings produce the same dataset
+     */
+    private long seed = 42;
+
+    /**
+     * Drop secondary indexes on employees during the load and rebuild them afterwards;
+     * only done when the employees table is empty
+     */
+    private boolean rebuildIndexes = true;
+}
@@ -0,0 +1,163 @@
+package com.pradeep.ems.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource Routing Configuration
+ *
+ * Replaces the auto-configured DataSource when read-replica routing
+ * (ems.datasource.routing.enabled) or workload isolation (ems.datasource.workloads.enabled)
+ * is turned on:
+ * - "primary" pool built from spring.datasource.* (including spring.datasource.hikari.*)
+ * - ReplicaRoutingDataSource sends read-only transactions to ems.datasource.routing.replicas
+ * - WorkloadRoutingDataSource sends @Workload(REPORTING/BATCH) work to dedicated pools
+ * - LazyConnectionDataSourceProxy defers the pick until the transaction and workload are known
+ *
+ * Every pool reports hikaricp.* metrics tagged with its pool name.
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceRoutingProperties.class, WorkloadPoolProperties.class})
+@ConditionalOnExpression("${ems.datasource.routing.enabled:false} or ${ems.datasource.workloads.enabled:false}")
+@RequiredArgsConstructor
+public class DataSourceRoutingConfig {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final DataSourceRoutingProperties routingProperties;
+    private final WorkloadPoolProperties workloadProperties;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        if (routingProperties.isEnabled()) {
+            routingProperties.getReplicas().forEach(replica ->
+                    replicas.put(replica.getName(), createReplicaPool(replica)));
+        }
+        return new ReplicaHealthMonitor(replicas, routingProperties, meterRegistry);
+    }
+
+    /**
+     * The write pool; not an autowire candidate so only the routing DataSource is injected
+     */
+    @Bean(autowireCandidate = false)
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // Apply spring.datasource.hikari.* the same way the auto-configuration does
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return primary;
+    }
+
+    /**
+     * Interactive traffic: the primary, or replica routing on top of it when replicas are configured
+     */
+    @Bean(autowireCandidate = false)
+    public DataSource interactiveDataSource() {
+        HikariDataSource primary = primaryDataSource();
+        if (!routingProperties.isEnabled() || routingProperties.getReplicas().isEmpty()) {
+            return primary;
+        }
+
+        ReplicaHealthMonitor healthMonitor = replicaHealthMonitor();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+        routingProperties.getReplicas().forEach(replica ->
+                targets.put(replica.getName(), healthMonitor.getReplica(replica.getName())));
+
+        ReplicaRoutingDataSource routing =
+                new ReplicaRoutingDataSource(healthMonitor, readYourWritesTracker(), meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    /**
+     * Interactive traffic plus one dedicated pool per configured workload
+     */
+    @Bean(autowireCandidate = false)
+    public WorkloadRoutingDataSource workloadRoutingDataSource() {
+        DataSource interactive = interactiveDataSource();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(WorkloadType.INTERACTIVE, interactive);
+        if (workloadProperties.isEnabled()) {
+            workloadProperties.getPools().forEach((workload, pool) -> {
+                if (workload != WorkloadType.INTERACTIVE) {
+                    targets.put(workload, createWorkloadPool(workload, pool));
+                }
+            });
+        }
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(interactive);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(workloadRoutingDataSource());
+    }
+
+    private HikariDataSource createReplicaPool(DataSourceRoutingProperties.Replica replica) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(replica.getName());
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(replica.getUsername());
+        pool.setPassword(replica.getPassword());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setMinimumIdle(replica.getMinimumIdle());
+        pool.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        // Don't block startup on a replica that is down; the health check keeps it out of rotation
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    private HikariDataSource createWorkloadPool(WorkloadType workload, WorkloadPoolProperties.Pool pool) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(workload.name().toLowerCase());
+        dataSource.setJdbcUrl(pool.getUrl() != null ? pool.getUrl() : dataSourceProperties.determineUrl());
+        dataSource.setUsername(pool.getUsername() != null ? pool.getUsername() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(pool.getPassword() != null ? pool.getPassword() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        if (!pool.getStatementTimeout().isZero()) {
+            dataSource.setConnectionInitSql("SET statement_timeout = " + pool.getStatementTimeout().toMillis());
+        }
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
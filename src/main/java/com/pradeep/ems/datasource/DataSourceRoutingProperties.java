@@ -0,0 +1,61 @@
+package com.pradeep.ems.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing settings (ems.datasource.routing.*)
+ *
+ * The primary pool keeps using spring.datasource.*; every entry under replicas
+ * gets its own Hikari pool that serves @Transactional(readOnly = true) work.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Turn routing on. When false the application uses the single auto-configured pool.
+     */
+    private boolean enabled = false;
+
+    /**
+     * After a principal commits a write, their reads stay on the primary for this long
+     * so they see their own changes despite replication lag. Zero disables the window.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Replicas lagging further behind the primary than this are taken out of rotation.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(30);
+
+    /**
+     * How often replicas are probed (read by the @Scheduled health check).
+     */
+    private long healthCheckIntervalMs = 10_000;
+
+    /**
+     * Timeout for the validation query issued by the health check.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private Duration connectionTimeout = Duration.ofSeconds(5);
+    }
+}
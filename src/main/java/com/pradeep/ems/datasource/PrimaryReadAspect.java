@@ -0,0 +1,27 @@
+package com.pradeep.ems.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies @ReadFromPrimary around the method, including its transaction (order 0, like
+ * WorkloadAspect), so the connection fetched for its first statement comes from the primary.
+ */
+@Aspect
+@Component
+@Order(0)
+public class PrimaryReadAspect {
+
+    @Around("@annotation(com.pradeep.ems.datasource.ReadFromPrimary)")
+    public Object onMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = PrimaryReadContext.activate();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PrimaryReadContext.restore(previous);
+        }
+    }
+}
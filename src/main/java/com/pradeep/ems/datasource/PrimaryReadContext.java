@@ -0,0 +1,32 @@
+package com.pradeep.ems.datasource;
+
+/**
+ * Whether the code running on the current thread must read from the primary.
+ * Set by PrimaryReadAspect, read by ReplicaRoutingDataSource.
+ */
+public final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReadContext() {
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    /**
+     * Turns primary reads on and returns the previous state so callers can restore it
+     */
+    static boolean activate() {
+        boolean previous = isActive();
+        ACTIVE.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void restore(boolean previous) {
+        if (!previous) {
+            ACTIVE.remove();
+        }
+    }
+}
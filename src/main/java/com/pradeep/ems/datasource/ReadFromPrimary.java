@@ -0,0 +1,27 @@
+package com.pradeep.ems.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the read-only transactions of a service method on the primary.
+ *
+ * For methods whose results go into a shared cache: a read from a lagging replica right after
+ * another principal's write would put the old row back into the cache the write just evicted,
+ * and every caller, the writer included, would then be served that stale entry. Reads that only
+ * answer their own caller can stay on the replicas.
+ *
+ * Example:
+ *   @ReadFromPrimary
+ *   @Transactional(readOnly = true)
+ *   @Cacheable(value = "employees", key = "#id")
+ *   public EmployeeResponseDto getEmployeeById(Long id)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,55 @@
+package com.pradeep.ems.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers when each principal last committed a write so their follow-up reads
+ * can be pinned to the primary until replicas have caught up.
+ *
+ * Entries expire on their own once the window has passed, so the map only ever
+ * holds principals that wrote recently.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Cache<String, Long> lastWrites;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window.isZero() ? Duration.ofMillis(1) : window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    public void recordWrite(String principal) {
+        if (isEnabled() && principal != null) {
+            lastWrites.put(principal, System.nanoTime());
+        }
+    }
+
+    public boolean isWithinWindow(String principal) {
+        if (!isEnabled() || principal == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.getIfPresent(principal);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    /**
+     * Name of the authenticated principal on the current thread (the JWT subject for API calls)
+     */
+    public static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.pradeep.ems.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically validates every replica pool and keeps the list of replicas that may
+ * receive read-only traffic. A replica is healthy when it answers the validation
+ * query in time and its replay lag is below the configured maximum.
+ *
+ * Replicas start out healthy so the first requests after startup are not all sent
+ * to the primary while the first check is still pending.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN pg_is_in_recovery() " +
+            "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) " +
+            "ELSE 0 END";
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, ReplicaState> states = new LinkedHashMap<>();
+    private final Duration maxReplicationLag;
+    private final int timeoutSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private volatile List<String> healthy;
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicas, DataSourceRoutingProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxReplicationLag = properties.getMaxReplicationLag();
+        this.timeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds());
+        replicas.keySet().forEach(name -> {
+            ReplicaState state = new ReplicaState();
+            states.put(name, state);
+            Gauge.builder("ems.datasource.replica.healthy", state, s -> s.healthy ? 1 : 0)
+                    .tag("pool", name)
+                    .description("1 when the replica is in the read rotation")
+                    .register(meterRegistry);
+            Gauge.builder("ems.datasource.replica.lag", state, s -> s.lagMillis)
+                    .tag("pool", name)
+                    .baseUnit("milliseconds")
+                    .description("Replication replay lag observed by the last health check")
+                    .register(meterRegistry);
+        });
+        this.healthy = List.copyOf(replicas.keySet());
+    }
+
+    /**
+     * Next healthy replica in round-robin order, or null when none is available
+     */
+    public String nextHealthyReplica() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size()));
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthy;
+    }
+
+    public DataSource getReplica(String name) {
+        return replicas.get(name);
+    }
+
+    /**
+     * Takes a replica out of rotation until the next successful health check
+     */
+    public synchronized void markDown(String name, SQLException cause) {
+        ReplicaState state = states.get(name);
+        if (state == null || !state.healthy) {
+            return;
+        }
+        state.healthy = false;
+        List<String> remaining = new ArrayList<>(healthy);
+        remaining.remove(name);
+        healthy = Collections.unmodifiableList(remaining);
+        log.warn("Replica '{}' is now DOWN - connection failed: {}", name, cause.getMessage());
+    }
+
+    /**
+     * Closes the replica pools (invoked as the inferred destroy method of the bean)
+     */
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool", e);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${ems.datasource.routing.health-check-interval-ms:10000}")
+    public synchronized void checkReplicas() {
+        List<String> nowHealthy = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            ReplicaState state = states.get(name);
+            boolean wasHealthy = state.healthy;
+            state.healthy = probe(name, dataSource, state);
+            if (state.healthy) {
+                nowHealthy.add(name);
+            }
+            if (wasHealthy != state.healthy) {
+                log.warn("Replica '{}' is now {}", name, state.healthy ? "UP - back in read rotation" : "DOWN - reads fail over");
+            }
+        });
+        healthy = Collections.unmodifiableList(nowHealthy);
+    }
+
+    private boolean probe(String name, DataSource dataSource, ReplicaState state) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                    state.lagMillis = rs.next() ? rs.getDouble(1) : 0;
+                }
+            }
+            return state.lagMillis <= maxReplicationLag.toMillis();
+        } catch (SQLException e) {
+            log.debug("Health check failed for replica '{}': {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private static class ReplicaState {
+        private volatile boolean healthy = true;
+        private volatile double lagMillis;
+    }
+}
@@ -0,0 +1,114 @@
+package com.pradeep.ems.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes read-only transactions to a healthy replica and everything else to the primary.
+ * Reads in a @ReadFromPrimary method stay on the primary too: their results are cached.
+ *
+ * The decision relies on TransactionSynchronizationManager, which only knows about
+ * readOnly once the transaction has started, so this DataSource must sit behind a
+ * LazyConnectionDataSourceProxy (see DataSourceRoutingConfig) that defers fetching the
+ * physical connection until the first statement runs.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Object WRITE_TRACKED = new Object();
+
+    private final ReplicaHealthMonitor healthMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routedCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(ReplicaHealthMonitor healthMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.healthMonitor = healthMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Falls back to the primary straight away when a replica refuses a connection,
+     * instead of failing the request and waiting for the next health check.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        String target = (String) determineCurrentLookupKey();
+        DataSource dataSource = getResolvedDataSources().get(target);
+        if (PRIMARY.equals(target) || dataSource == null) {
+            return getResolvedDefaultDataSource().getConnection();
+        }
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            healthMonitor.markDown(target, e);
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = route();
+        routedCounters.computeIfAbsent(target, pool -> Counter.builder("ems.datasource.routed")
+                        .tag("pool", pool)
+                        .description("Connections handed out per pool by the routing DataSource")
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOnCommit();
+            return PRIMARY;
+        }
+        // Cache fills must not read behind a write (see @ReadFromPrimary)
+        if (PrimaryReadContext.isActive()
+                || readYourWritesTracker.isWithinWindow(ReadYourWritesTracker.currentPrincipal())) {
+            return PRIMARY;
+        }
+        String replica = healthMonitor.nextHealthyReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    /**
+     * Starts the read-your-writes window when the surrounding write transaction commits,
+     * registering at most one callback per transaction.
+     */
+    private void trackWriteOnCommit() {
+        if (!readYourWritesTracker.isEnabled()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+        String principal = ReadYourWritesTracker.currentPrincipal();
+        if (principal == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, principal);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(principal);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+}
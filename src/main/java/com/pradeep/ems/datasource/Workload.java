@@ -0,0 +1,23 @@
+package com.pradeep.ems.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method (or every method of a class) as belonging to a workload,
+ * so its statements run on that workload's connection pool.
+ *
+ * Example:
+ *   @Workload(WorkloadType.REPORTING)
+ *   @Transactional(readOnly = true)
+ *   public List<EmployeeResponseDto> searchEmployees(String query)
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+    WorkloadType value();
+}
@@ -0,0 +1,36 @@
+package com.pradeep.ems.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies @Workload before the transaction starts and restores the caller's workload
+ * afterwards. Order 0 wraps the @Transactional interceptor (LOWEST_PRECEDENCE).
+ */
+@Aspect
+@Component
+@Order(0)
+public class WorkloadAspect {
+
+    @Around("@annotation(workload)")
+    public Object onMethod(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        return proceed(joinPoint, workload.value());
+    }
+
+    @Around("@within(workload) && !@annotation(com.pradeep.ems.datasource.Workload)")
+    public Object onType(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        return proceed(joinPoint, workload.value());
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, WorkloadType workload) throws Throwable {
+        WorkloadType previous = WorkloadContext.set(workload);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
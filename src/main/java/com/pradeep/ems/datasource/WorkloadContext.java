@@ -0,0 +1,35 @@
+package com.pradeep.ems.datasource;
+
+/**
+ * Holds the workload of the code running on the current thread.
+ * Set by WorkloadAspect, read by WorkloadRoutingDataSource.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static WorkloadType current() {
+        WorkloadType workload = CURRENT.get();
+        return workload != null ? workload : WorkloadType.INTERACTIVE;
+    }
+
+    /**
+     * Switches the current workload and returns the previous one so callers can restore it
+     */
+    static WorkloadType set(WorkloadType workload) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(WorkloadType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
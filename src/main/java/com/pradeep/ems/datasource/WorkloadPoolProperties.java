@@ -0,0 +1,48 @@
+package com.pradeep.ems.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Workload isolation settings (ems.datasource.workloads.*)
+ *
+ * Each entry under pools gets a dedicated Hikari pool. Url and credentials default to
+ * spring.datasource.*, so a pool can also point at a replica or a reporting database.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.datasource.workloads")
+public class WorkloadPoolProperties {
+
+    /**
+     * Turn workload isolation on. When false every workload shares the interactive pool.
+     */
+    private boolean enabled = false;
+
+    private Map<WorkloadType, Pool> pools = new EnumMap<>(WorkloadType.class);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 4;
+        private int minimumIdle = 1;
+
+        /**
+         * Longest time a caller queues for a connection before failing
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Postgres statement_timeout applied to every connection of the pool (0 = no limit)
+         */
+        private Duration statementTimeout = Duration.ZERO;
+    }
+}
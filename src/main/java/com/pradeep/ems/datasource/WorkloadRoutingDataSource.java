@@ -0,0 +1,34 @@
+package com.pradeep.ems.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends each connection request to the pool of the current workload (see @Workload).
+ * Workloads without a dedicated pool fall back to the interactive DataSource.
+ */
+@Slf4j
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    /**
+     * Closes the dedicated workload pools (invoked as the inferred destroy method of the bean)
+     */
+    public void close() {
+        getResolvedDataSources().forEach((workload, dataSource) -> {
+            if (workload != WorkloadType.INTERACTIVE && dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close {} pool", workload, e);
+                }
+            }
+        });
+    }
+}
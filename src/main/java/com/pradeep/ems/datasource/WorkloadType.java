@@ -0,0 +1,16 @@
+package com.pradeep.ems.datasource;
+
+/**
+ * Traffic classes that get their own connection pool when workload isolation is enabled
+ */
+public enum WorkloadType {
+
+    /** Short UI lookups - served by the primary (or replica routing) pool */
+    INTERACTIVE,
+
+    /** Large scans, exports and report queries */
+    REPORTING,
+
+    /** Bulk loads and maintenance jobs */
+    BATCH
+}
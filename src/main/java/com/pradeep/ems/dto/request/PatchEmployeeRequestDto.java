@@ -0,0 +1,17 @@
+package com.pradeep.ems.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Partial update: only non-null fields are written. version is the one the client last read;
+ * the update is rejected with 409 if the employee has changed since.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class PatchEmployeeRequestDto extends UpdateEmployeeRequestDto {
+
+    @NotNull(message = "Version is required")
+    private Long version;
+}
@@ -0,0 +1,22 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregates over one group of matching employees; the salary figures only cover
+ * employees with a salary and are null when none has one
+ */
+@Data
+@Builder
+public class AnalyticsGroupDto {
+
+    private String key;
+    private long count;
+    private BigDecimal totalSalary;
+    private BigDecimal averageSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+}
@@ -0,0 +1,20 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of an ad-hoc analytics query over the in-memory employee snapshot
+ */
+@Data
+@Builder
+public class AnalyticsResultDto {
+
+    private String groupBy;
+    private List<AnalyticsGroupDto> groups;
+    private long matchedEmployees;
+    private long scannedRows;
+    private long tookMicros;
+}
@@ -0,0 +1,28 @@
+package com.pradeep.ems.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change from the outbox. offset is strictly increasing in commit order; resume a
+ * stream by passing the last offset seen.
+ */
+@Data
+@Builder
+public class ChangeEventDto {
+
+    private long offset;
+    private String entity;
+    private Long entityId;
+    private String type;
+    private LocalDateTime occurredAt;
+
+    /**
+     * The EmployeeResponseDto / DepartmentResponseDto after the change (before it, for DELETED)
+     */
+    @JsonRawValue
+    private String payload;
+}
@@ -0,0 +1,27 @@
+package com.pradeep.ems.dto.response;
+
+/**
+ * How a paged listing computes its total element count
+ */
+public enum CountStrategy {
+
+    /**
+     * COUNT(*) with the listing's filters on every request
+     */
+    EXACT,
+
+    /**
+     * Exact count cached per normalized filter, dropped whenever employees are written
+     */
+    CACHED,
+
+    /**
+     * Planner estimate (pg_class.reltuples, or the EXPLAIN row estimate when filtered); approximate
+     */
+    ESTIMATED,
+
+    /**
+     * No total at all - only whether a next page exists
+     */
+    NONE
+}
@@ -0,0 +1,16 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DepartmentHeadcountReportDto {
+
+    private Long departmentId;
+    private String departmentName;
+    private long headcount;
+    private long activeHeadcount;
+    private Double companySharePercent;
+    private int rankByHeadcount;
+}
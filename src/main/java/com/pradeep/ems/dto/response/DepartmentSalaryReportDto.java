@@ -0,0 +1,24 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class DepartmentSalaryReportDto {
+
+    private Long departmentId;
+    private String departmentName;
+    private long headcount;
+    private BigDecimal totalSalary;
+    private BigDecimal averageSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private Double medianSalary;
+    private Double p90Salary;
+    private Double p99Salary;
+    private Double payrollSharePercent;  // Share of the company-wide salary sum
+    private int rankByAverageSalary;
+}
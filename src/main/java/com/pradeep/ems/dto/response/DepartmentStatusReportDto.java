@@ -0,0 +1,15 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DepartmentStatusReportDto {
+
+    private Long departmentId;
+    private String departmentName;
+    private String status;
+    private long headcount;
+    private double departmentSharePercent;
+}
@@ -1,5 +1,6 @@
 package com.pradeep.ems.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -26,4 +27,8 @@ public class EmployeeResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long version;
+
+    // Only set for employees read from the archive
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime archivedAt;
 }
@@ -0,0 +1,17 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One autocomplete match - just enough for a people picker to display and select
+ */
+@Data
+@Builder
+public class EmployeeSuggestionDto {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String employeeId;
+}
@@ -0,0 +1,28 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of matching employees sharing one value of a facet (status, department, job title)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDto {
+
+    /**
+     * Filter value - the department id for the department facet
+     */
+    private String value;
+
+    /**
+     * Display text - the department name for the department facet, otherwise the value
+     */
+    private String label;
+
+    private long count;
+}
@@ -0,0 +1,79 @@
+package com.pradeep.ems.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stable JSON shape for paged listings. Fields, including pageable and sort, match the JSON
+ * Spring Data's Page used to produce, so existing clients keep working; totalElements and
+ * totalPages are null with CountStrategy.NONE and approximate with ESTIMATED, as reported by
+ * countStrategy. facets is only present when requested.
+ */
+@Data
+@Builder
+public class PageResponseDto<T> {
+
+    private List<T> content;
+    private PageableDto pageable;
+    private SortDto sort;
+    private int number;
+    private int size;
+    private int numberOfElements;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean first;
+    private boolean last;
+    private boolean hasNext;
+    private boolean empty;
+    private CountStrategy countStrategy;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, List<FacetCountDto>> facets;
+
+    public static <T> PageResponseDto<T> of(Slice<T> slice, Long totalElements, CountStrategy countStrategy) {
+        Integer totalPages = null;
+        if (totalElements != null) {
+            totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        }
+        return PageResponseDto.<T>builder()
+                .content(slice.getContent())
+                .pageable(PageableDto.of(slice.getPageable()))
+                .sort(SortDto.of(slice.getSort()))
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .numberOfElements(slice.getNumberOfElements())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(slice.isFirst())
+                .last(!slice.hasNext())
+                .hasNext(slice.hasNext())
+                .empty(!slice.hasContent())
+                .countStrategy(countStrategy)
+                .build();
+    }
+
+    public record PageableDto(int pageNumber, int pageSize, SortDto sort, long offset, boolean paged, boolean unpaged) {
+
+        static PageableDto of(Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return new PageableDto(0, 0, SortDto.of(pageable.getSort()), 0, false, true);
+            }
+            return new PageableDto(pageable.getPageNumber(), pageable.getPageSize(), SortDto.of(pageable.getSort()),
+                    pageable.getOffset(), true, false);
+        }
+    }
+
+    public record SortDto(boolean empty, boolean sorted, boolean unsorted) {
+
+        static SortDto of(Sort sort) {
+            return new SortDto(sort.isEmpty(), sort.isSorted(), sort.isUnsorted());
+        }
+    }
+}
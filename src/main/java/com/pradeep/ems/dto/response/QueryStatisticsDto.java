@@ -0,0 +1,19 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class QueryStatisticsDto {
+
+    private String query;
+    private long executionCount;
+    private long rowCount;
+    private long totalTimeMs;
+    private long avgTimeMs;
+    private long maxTimeMs;
+    private long minTimeMs;
+    private long cacheHitCount;
+    private long cacheMissCount;
+}
@@ -0,0 +1,29 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class QueryStatisticsReportDto {
+
+    // When Hibernate started collecting (application start or last reset)
+    private Instant collectingSince;
+    private long queryExecutionCount;
+    private String slowestQuery;
+    private long slowestQueryTimeMs;
+    private long entityLoadCount;
+    private long entityFetchCount;
+    private long flushCount;
+    private long prepareStatementCount;
+    private double secondLevelCacheHitRatio;
+
+    // Top statements by max execution time
+    private List<QueryStatisticsDto> slowest;
+
+    // Top statements by execution count
+    private List<QueryStatisticsDto> mostFrequent;
+}
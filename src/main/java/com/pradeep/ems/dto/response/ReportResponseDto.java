@@ -0,0 +1,20 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Report rows plus where they came from: "live" aggregates are current, "materialized-view"
+ * aggregates are as of the last view refresh
+ */
+@Data
+@Builder
+public class ReportResponseDto<T> {
+
+    private List<T> rows;
+    private String source;
+    private LocalDateTime asOf;
+}
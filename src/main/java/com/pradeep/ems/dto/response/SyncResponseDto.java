@@ -0,0 +1,23 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a delta sync: rows changed (or created) and ids deleted since the client's
+ * watermark. Pass watermark back as ?since= for the next page; keep paging while hasMore.
+ * resyncRequired means the old watermark is past tombstone retention - drop local data and
+ * sync again without ?since=.
+ */
+@Data
+@Builder
+public class SyncResponseDto<T> {
+
+    private List<T> changed;
+    private List<Long> deleted;
+    private String watermark;
+    private boolean hasMore;
+    private boolean resyncRequired;
+}
@@ -0,0 +1,49 @@
+package com.pradeep.ems.dto.response;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket width of a time series; buckets start on the same day Postgres date_trunc uses
+ */
+public enum TimeBucket {
+
+    /**
+     * ISO weeks, starting on Monday
+     */
+    WEEK("week"),
+
+    MONTH("month"),
+
+    QUARTER("quarter");
+
+    private final String unit;
+
+    TimeBucket(String unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * The date_trunc field name
+     */
+    public String unit() {
+        return unit;
+    }
+
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case QUARTER -> date.withDayOfMonth(1).withMonth((date.getMonthValue() - 1) / 3 * 3 + 1);
+        };
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+            case QUARTER -> bucketStart.plusMonths(3);
+        };
+    }
+}
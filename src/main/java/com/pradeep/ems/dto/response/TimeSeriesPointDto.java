@@ -0,0 +1,23 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * One bucket of the hiring series:
+ * - hires: employees whose hire_date falls in the bucket
+ * - created: employee records created in the bucket
+ * - terminations: TERMINATED employees last modified in the bucket (the schema keeps no
+ *   termination date, so the last change stands in for it)
+ */
+@Data
+@Builder
+public class TimeSeriesPointDto {
+
+    private LocalDate bucketStart;
+    private long hires;
+    private long created;
+    private long terminations;
+}
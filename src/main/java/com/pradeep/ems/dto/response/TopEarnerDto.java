@@ -0,0 +1,23 @@
+package com.pradeep.ems.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * One leaderboard position; rank is 1-based and ties on salary are broken by employee id
+ */
+@Data
+@Builder
+public class TopEarnerDto {
+
+    private int rank;
+    private Long id;
+    private String name;
+    private String employeeId;
+    private String jobTitle;
+    private Long departmentId;
+    private String departmentName;
+    private BigDecimal salary;
+}
@@ -30,7 +30,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "departments", indexes = {
-    @Index(name = "idx_department_name", columnList = "name")
+    @Index(name = "idx_department_name", columnList = "name"),
+    @Index(name = "idx_department_updated_at_id", columnList = "updated_at, id")  // delta sync pages
 })
 @NamedEntityGraph(
     name = "Department.withEmployees",
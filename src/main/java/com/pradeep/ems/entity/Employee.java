@@ -37,7 +37,12 @@ import java.time.LocalDateTime;
     @Index(name = "idx_employee_email", columnList = "email"),
     @Index(name = "idx_employee_id", columnList = "employee_id"),
     @Index(name = "idx_employee_department", columnList = "department_id"),
-    @Index(name = "idx_employee_status", columnList = "status")
+    @Index(name = "idx_employee_status", columnList = "status"),
+    @Index(name = "idx_employee_salary", columnList = "salary"),         // findTopEarnersNative: ORDER BY salary DESC LIMIT
+    @Index(name = "idx_employee_department_salary", columnList = "department_id, salary DESC"),  // per-department top earners
+    @Index(name = "idx_employee_created_at", columnList = "created_at"),  // findByCreatedDate range scans
+    @Index(name = "idx_employee_hire_date", columnList = "hire_date"),   // hiring time series
+    @Index(name = "idx_employee_updated_at_id", columnList = "updated_at, id")  // delta sync pages
 })
 @NamedEntityGraph(
     name = "Employee.withDepartment",
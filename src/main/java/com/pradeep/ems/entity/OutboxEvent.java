@@ -0,0 +1,51 @@
+package com.pradeep.ems.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed employee or department change, written in the transaction that made it.
+ * The id doubles as the change feed offset.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_created_at", columnList = "created_at")  // retention pruning
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;  // EMPLOYEE, DEPARTMENT
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 16)
+    private String eventType;  // CREATED, UPDATED, DELETED
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;  // JSON of the response DTO after the change (before it, for DELETED)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,8 @@
+package com.pradeep.ems.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED  // moved to the employee archive; still readable by id
+}
@@ -0,0 +1,11 @@
+package com.pradeep.ems.event;
+
+import com.pradeep.ems.dto.response.DepartmentResponseDto;
+
+/**
+ * Published by DepartmentServiceImpl inside the writing transaction.
+ *
+ * department is the state after the change, or the last state for DELETED.
+ */
+public record DepartmentChangedEvent(ChangeType type, Long departmentId, DepartmentResponseDto department) {
+}
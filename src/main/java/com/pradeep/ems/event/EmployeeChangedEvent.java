@@ -0,0 +1,43 @@
+package com.pradeep.ems.event;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Published by EmployeeServiceImpl and EmployeeArchiver inside the writing transaction. Listeners that keep
+ * derived state (caches, indexes) should use @TransactionalEventListener so they only
+ * see committed changes.
+ *
+ * before is null for CREATED, after is null for DELETED and ARCHIVED.
+ */
+public record EmployeeChangedEvent(ChangeType type, Long employeeId,
+                                   EmployeeResponseDto before, EmployeeResponseDto after) {
+
+    public static EmployeeChangedEvent created(EmployeeResponseDto after) {
+        return new EmployeeChangedEvent(ChangeType.CREATED, after.getId(), null, after);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeResponseDto before, EmployeeResponseDto after) {
+        return new EmployeeChangedEvent(ChangeType.UPDATED, after.getId(), before, after);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeResponseDto before) {
+        return new EmployeeChangedEvent(ChangeType.DELETED, before.getId(), before, null);
+    }
+
+    public static EmployeeChangedEvent archived(EmployeeResponseDto before) {
+        return new EmployeeChangedEvent(ChangeType.ARCHIVED, before.getId(), before, null);
+    }
+
+    /**
+     * Departments whose employee set may have changed - old and new one on a transfer
+     */
+    public Set<Long> departmentIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (before != null && before.getDepartmentId() != null) ids.add(before.getDepartmentId());
+        if (after != null && after.getDepartmentId() != null) ids.add(after.getDepartmentId());
+        return ids;
+    }
+}
@@ -0,0 +1,25 @@
+package com.pradeep.ems.exception;
+
+/**
+ * The request conflicts with the current state of the resource, e.g. a stale version
+ */
+public class ConflictException extends RuntimeException {
+
+    private final transient Object current;
+
+    public ConflictException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * @param current the resource's current state, returned to the client so it can retry
+     */
+    public ConflictException(String message, Object current) {
+        super(message);
+        this.current = current;
+    }
+
+    public Object getCurrent() {
+        return current;
+    }
+}
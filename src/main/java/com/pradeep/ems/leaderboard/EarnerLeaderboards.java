@@ -0,0 +1,196 @@
+package com.pradeep.ems.leaderboard;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.TopEarnerDto;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.DepartmentChangedEvent;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Earner Leaderboards
+ *
+ * Top earners (active employees by salary) company-wide and per department, kept in
+ * bounded Leaderboards instead of sorting employees on every request:
+ * - built by one streaming scan after startup
+ * - kept current from committed EmployeeChangedEvents (salary, status and department changes)
+ * - a board that lost too many entries to answer a request is reloaded from the database
+ *   with an index-backed top-N query
+ * Changes committed while the startup scan runs are queued and replayed on top of it.
+ */
+@Component
+@EnableConfigurationProperties(LeaderboardProperties.class)
+@Slf4j
+public class EarnerLeaderboards {
+
+    private final LeaderboardLoader loader;
+    private final LeaderboardProperties properties;
+
+    // Everything below is guarded by this
+    private Leaderboard global;  // null until the startup scan finishes
+    private final Map<Long, Leaderboard> departments = new HashMap<>();
+    private final List<EmployeeChangedEvent> pending = new ArrayList<>();
+    private boolean loading;
+
+    public EarnerLeaderboards(LeaderboardLoader loader, LeaderboardProperties properties) {
+        this.loader = loader;
+        this.properties = properties;
+    }
+
+    /**
+     * The requested leaderboard length, defaulted and capped by ems.leaderboard.*
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return properties.getDefaultLimit();
+        }
+        return Math.max(1, Math.min(requested, properties.getMaxLimit()));
+    }
+
+    /**
+     * Top {@code limit} earners of a department, or company-wide for a null department
+     */
+    public List<TopEarnerDto> top(Long departmentId, int limit) {
+        Long version = null;
+        synchronized (this) {
+            Leaderboard board = board(departmentId);
+            if (board != null) {
+                List<Leaderboard.Entry> top = board.top(limit);
+                if (top != null) {
+                    return ranked(top);
+                }
+                version = board.version();
+            }
+        }
+        if (version == null) {
+            return ranked(loader.loadTop(departmentId, limit));  // not built (yet), or disabled
+        }
+
+        int capacity = properties.capacity();
+        List<Leaderboard.Entry> reloaded = loader.loadTop(departmentId, capacity);
+        synchronized (this) {
+            Leaderboard board = board(departmentId);
+            // Only install the reload if no change was applied while it ran
+            if (board != null && board.version() == version) {
+                board.replace(reloaded, reloaded.size() < capacity);
+            }
+        }
+        return ranked(reloaded.subList(0, Math.min(limit, reloaded.size())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            loading = true;
+        }
+        Thread thread = new Thread(this::build, "leaderboard-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @TransactionalEventListener
+    public synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (loading) {
+            pending.add(event);
+        } else if (global != null) {
+            apply(event);
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (global == null || event.type() == ChangeType.CREATED) {
+            return;
+        }
+        // Entries carry the department name: let both affected boards reload on next use
+        global.invalidate();
+        Leaderboard board = event.type() == ChangeType.DELETED
+                ? departments.remove(event.departmentId())
+                : departments.get(event.departmentId());
+        if (board != null) {
+            board.invalidate();
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        LeaderboardLoader.Snapshot snapshot = null;
+        try {
+            snapshot = loader.loadAll();
+        } catch (RuntimeException e) {
+            log.error("Leaderboard build failed - top earners keep querying the database", e);
+        }
+        synchronized (this) {
+            if (snapshot != null) {
+                global = snapshot.global();
+                departments.putAll(snapshot.departments());
+                pending.forEach(this::apply);
+            }
+            pending.clear();
+            loading = false;
+        }
+        if (snapshot != null) {
+            log.info("Leaderboards built: {} departments, {} ms", snapshot.departments().size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void apply(EmployeeChangedEvent event) {
+        Leaderboard.Entry entry = entry(event.after());
+        global.update(event.employeeId(), entry);
+        // Remove from the old department on a transfer, place in the current one
+        for (Long departmentId : event.departmentIds()) {
+            Leaderboard board = board(departmentId);
+            boolean current = entry != null && departmentId.equals(entry.departmentId());
+            board.update(event.employeeId(), current ? entry : null);
+        }
+    }
+
+    /**
+     * The department's board; a department the scan did not see has no earners yet
+     */
+    private Leaderboard board(Long departmentId) {
+        if (global == null || departmentId == null) {
+            return global;
+        }
+        return departments.computeIfAbsent(departmentId, id -> new Leaderboard(properties.capacity(), List.of(), true));
+    }
+
+    private static Leaderboard.Entry entry(EmployeeResponseDto employee) {
+        if (employee == null || employee.getSalary() == null || !"ACTIVE".equals(employee.getStatus())) {
+            return null;
+        }
+        return new Leaderboard.Entry(employee.getId(), employee.getSalary(), employee.getName(),
+                employee.getEmployeeId(), employee.getJobTitle(), employee.getDepartmentId(), employee.getDepartmentName());
+    }
+
+    private static List<TopEarnerDto> ranked(List<Leaderboard.Entry> entries) {
+        List<TopEarnerDto> ranked = new ArrayList<>(entries.size());
+        for (Leaderboard.Entry entry : entries) {
+            ranked.add(TopEarnerDto.builder()
+                    .rank(ranked.size() + 1)
+                    .id(entry.id())
+                    .name(entry.name())
+                    .employeeId(entry.employeeId())
+                    .jobTitle(entry.jobTitle())
+                    .departmentId(entry.departmentId())
+                    .departmentName(entry.departmentName())
+                    .salary(entry.salary())
+                    .build());
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,107 @@
+package com.pradeep.ems.leaderboard;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded ranking of the highest-paid employees of one scope (a department, or everyone).
+ *
+ * Invariant: the entries are exactly the top size() earners of the scope. When complete,
+ * they are all of its earners; otherwise lower-ranked earners exist that the board does
+ * not know, so a newcomer below the last entry cannot be placed and is ignored, and
+ * leavers shrink the board until top() can no longer answer and the caller reloads it.
+ *
+ * Not thread-safe: EarnerLeaderboards serialises access.
+ */
+final class Leaderboard {
+
+    static final Comparator<Entry> RANKING = Comparator.comparing(Entry::salary).reversed()
+            .thenComparingLong(Entry::id);
+
+    private final int capacity;
+    private final TreeSet<Entry> ranked = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> byId = new HashMap<>();
+    private boolean complete;
+    private long version;
+
+    Leaderboard(int capacity, Collection<Entry> entries, boolean complete) {
+        this.capacity = capacity;
+        replace(entries, complete);
+    }
+
+    /**
+     * Applies an employee's current state; null means the employee no longer ranks here
+     */
+    void update(long id, Entry entry) {
+        version++;
+        Entry previous = byId.remove(id);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+        if (entry == null || (!complete && (ranked.isEmpty() || RANKING.compare(entry, ranked.last()) > 0))) {
+            return;
+        }
+        ranked.add(entry);
+        byId.put(id, entry);
+        if (ranked.size() > capacity) {
+            byId.remove(ranked.pollLast().id());
+            complete = false;
+        }
+    }
+
+    /**
+     * The first {@code limit} entries, or null if the board no longer knows that many
+     */
+    List<Entry> top(int limit) {
+        if (ranked.size() < limit && !complete) {
+            return null;
+        }
+        List<Entry> top = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Entry entry : ranked) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+
+    void replace(Collection<Entry> entries, boolean complete) {
+        version++;
+        ranked.clear();
+        byId.clear();
+        for (Entry entry : entries) {
+            ranked.add(entry);
+            byId.put(entry.id(), entry);
+        }
+        while (ranked.size() > capacity) {
+            byId.remove(ranked.pollLast().id());
+            complete = false;
+        }
+        this.complete = complete;
+    }
+
+    /**
+     * Forget everything: the next top() call makes the caller reload the board
+     */
+    void invalidate() {
+        replace(List.of(), false);
+    }
+
+    /**
+     * Bumped by every change, so a reload can tell whether the board moved on while it queried
+     */
+    long version() {
+        return version;
+    }
+
+    record Entry(long id, BigDecimal salary, String name, String employeeId, String jobTitle,
+                 Long departmentId, String departmentName) {
+    }
+}
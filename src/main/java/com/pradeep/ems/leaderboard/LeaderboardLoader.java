@@ -0,0 +1,109 @@
+package com.pradeep.ems.leaderboard;
+
+import com.pradeep.ems.datasource.ReadFromPrimary;
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Reads ranked earners (active employees with a salary) from Postgres: all leaderboards
+ * in one streaming scan, or one leaderboard with an index-backed top-N query.
+ */
+@Component
+@RequiredArgsConstructor
+class LeaderboardLoader {
+
+    private static final String EARNERS =
+            "SELECT e.id, e.salary, e.name, e.employee_id, e.job_title, e.department_id, d.name "
+            + "FROM employees e LEFT JOIN departments d ON d.id = e.department_id "
+            + "WHERE e.status = 'ACTIVE' AND e.salary IS NOT NULL";
+
+    private static final RowMapper<Leaderboard.Entry> ENTRY = (rs, rowNum) -> new Leaderboard.Entry(
+            rs.getLong(1), rs.getBigDecimal(2), rs.getString(3), rs.getString(4), rs.getString(5),
+            rs.getObject(6, Long.class), rs.getString(7));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaderboardProperties properties;
+
+    /**
+     * One pass over all earners, keeping a bounded min-heap per department plus one global heap,
+     * so memory stays at capacity entries per board however large the table is
+     */
+    @ReadFromPrimary  // Becomes the shared boards, which only replay changes from after the load
+    @Workload(WorkloadType.BATCH)
+    @Transactional(readOnly = true)
+    public Snapshot loadAll() {
+        int capacity = properties.capacity();
+        Heap global = new Heap(capacity);
+        Map<Long, Heap> departments = new HashMap<>();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(properties.getFetchSize());
+        streaming.query(EARNERS, (RowCallbackHandler) rs -> {
+            Leaderboard.Entry entry = ENTRY.mapRow(rs, 0);
+            global.offer(entry);
+            if (entry.departmentId() != null) {
+                departments.computeIfAbsent(entry.departmentId(), id -> new Heap(capacity)).offer(entry);
+            }
+        });
+
+        Map<Long, Leaderboard> boards = new HashMap<>();
+        departments.forEach((id, heap) -> boards.put(id, heap.toLeaderboard()));
+        return new Snapshot(global.toLeaderboard(), boards);
+    }
+
+    /**
+     * Top earners of one department (or everyone for null), best first - served by
+     * idx_employee_department_salary / idx_employee_salary
+     */
+    @ReadFromPrimary  // May replace a shared board, so it must not predate changes already applied to it
+    @Transactional(readOnly = true)
+    public List<Leaderboard.Entry> loadTop(Long departmentId, int limit) {
+        if (departmentId == null) {
+            return jdbcTemplate.query(EARNERS + " ORDER BY e.salary DESC, e.id LIMIT ?", ENTRY, limit);
+        }
+        return jdbcTemplate.query(EARNERS + " AND e.department_id = ? ORDER BY e.salary DESC, e.id LIMIT ?",
+                ENTRY, departmentId, limit);
+    }
+
+    record Snapshot(Leaderboard global, Map<Long, Leaderboard> departments) {
+    }
+
+    /**
+     * Min-heap of the best entries seen so far; the head is the first to be evicted
+     */
+    private static final class Heap {
+
+        private final int capacity;
+        private final PriorityQueue<Leaderboard.Entry> queue;
+        private long seen;
+
+        Heap(int capacity) {
+            this.capacity = capacity;
+            this.queue = new PriorityQueue<>(capacity + 1, Leaderboard.RANKING.reversed());
+        }
+
+        void offer(Leaderboard.Entry entry) {
+            seen++;
+            if (queue.size() < capacity) {
+                queue.add(entry);
+            } else if (Leaderboard.RANKING.compare(entry, queue.peek()) < 0) {
+                queue.poll();
+                queue.add(entry);
+            }
+        }
+
+        Leaderboard toLeaderboard() {
+            return new Leaderboard(capacity, queue, seen <= capacity);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.pradeep.ems.leaderboard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Top-earner leaderboard settings (ems.leaderboard.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.leaderboard")
+public class LeaderboardProperties {
+
+    /**
+     * Keep the leaderboards in memory; when off, every request queries the database
+     */
+    private boolean enabled = true;
+
+    private int defaultLimit = 10;
+    private int maxLimit = 100;
+
+    /**
+     * Extra positions kept beyond max-limit, so a few leavers do not force a reload
+     */
+    private int slack = 20;
+
+    /**
+     * Rows per round trip of the streaming scan that builds the leaderboards
+     */
+    private int fetchSize = 10_000;
+
+    public int capacity() {
+        return maxLimit + slack;
+    }
+}
@@ -0,0 +1,56 @@
+package com.pradeep.ems.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Keeps every latency sample (microseconds) of one scenario; exact percentiles are
+ * affordable at load-test volumes and avoid the bucketing error of histograms.
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int size;
+    private long errors;
+
+    synchronized void record(long micros, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = micros;
+    }
+
+    synchronized LoadTestReport.ScenarioResult summarize(String name, double seconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return LoadTestReport.ScenarioResult.builder()
+                .scenario(name)
+                .requests(size)
+                .errors(errors)
+                .throughputPerSecond(seconds > 0 ? size / seconds : 0)
+                .p50Ms(percentile(sorted, 50))
+                .p90Ms(percentile(sorted, 90))
+                .p99Ms(percentile(sorted, 99))
+                .p999Ms(percentile(sorted, 99.9))
+                .maxMs(sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0)
+                .build();
+    }
+
+    synchronized void mergeInto(LatencyRecorder total) {
+        for (int i = 0; i < size; i++) {
+            total.samples = total.size == total.samples.length ? Arrays.copyOf(total.samples, total.size * 2) : total.samples;
+            total.samples[total.size++] = samples[i];
+        }
+        total.errors += errors;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))] / 1000.0;
+    }
+}
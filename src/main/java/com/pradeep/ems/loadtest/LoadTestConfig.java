@@ -0,0 +1,57 @@
+package com.pradeep.ems.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.List;
+
+/**
+ * Load-test profile: makes the application testable offline
+ * - JwtDecoder that trusts a locally generated key instead of Google's JWKS
+ * - In-process user service answering the authority lookups of JwtAuthenticationConverter
+ *
+ * Run with --spring.profiles.active=local,loadtest (see application-loadtest.yaml).
+ */
+@Configuration
+@Profile("loadtest")
+@EnableConfigurationProperties(LoadTestProperties.class)
+@Slf4j
+public class LoadTestConfig {
+
+    @Bean
+    public LoadTestTokens loadTestTokens(LoadTestProperties properties) {
+        LoadTestTokens tokens = new LoadTestTokens(properties.getTokens());
+        // Handy for driving the API with curl, k6 or Gatling instead of the built-in driver
+        log.info("Load-test token for {}: {}", LoadTestTokens.email(0), tokens.tokenFor(0));
+        return tokens;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(LoadTestTokens tokens, LoadTestProperties properties) {
+        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withPublicKey(tokens.publicKey()).build();
+        String audience = properties.getTokens().getAudience();
+        jwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(properties.getTokens().getIssuer()),
+                new JwtClaimValidator<List<String>>("aud", aud -> aud != null && aud.contains(audience))));
+        return jwtDecoder;
+    }
+
+    @Bean(destroyMethod = "stop")
+    public StubUserService stubUserService(LoadTestProperties properties,
+                                           @Value("${user.service.url}") String userServiceUrl) {
+        StubUserService stub = new StubUserService(properties.getUserService());
+        stub.start();
+        log.info("Stub user service listening on port {} (user.service.url={})",
+                properties.getUserService().getPort(), userServiceUrl);
+        return stub;
+    }
+}
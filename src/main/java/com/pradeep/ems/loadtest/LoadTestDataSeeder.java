@@ -0,0 +1,46 @@
+package com.pradeep.ems.loadtest;
+
+import com.pradeep.ems.dataset.DatasetGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * Tops the employees table up to ems.loadtest.seed.employees with DatasetGenerator
+ * before the driver starts. Runs outside Hibernate, so seeding does not show up in
+ * the statistics of the run.
+ */
+@Component
+@Profile("loadtest")
+@Order(0)
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetGenerator generator;
+    private final LoadTestProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        LoadTestProperties.Seed seed = properties.getSeed();
+        if (!seed.isEnabled()) {
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM employees", Long.class);
+        if (existing != null && existing >= seed.getEmployees()) {
+            log.info("Load-test seeding skipped: {} employees already present", existing);
+            return;
+        }
+        // Indexes stay in place: this runs inside the application, which is already serving requests
+        generator.generate(seed.getDepartments(), seed.getEmployees() - (existing == null ? 0 : existing),
+                seed.getRandomSeed(), false);
+    }
+}
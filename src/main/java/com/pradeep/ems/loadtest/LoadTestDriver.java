@@ -0,0 +1,286 @@
+package com.pradeep.ems.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a weighted mix of read and write scenarios against the REST API over real HTTP,
+ * so the whole stack (security filters, JWT decoding, authority lookup, controllers,
+ * services, pools) is exercised. A fixed number of workers loop until the run ends;
+ * samples taken during the warmup are discarded.
+ *
+ * Enabled with ems.loadtest.driver.enabled=true; starts once the application is ready.
+ */
+@Component
+@Profile("loadtest")
+@ConditionalOnProperty(name = "ems.loadtest.driver.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestDriver {
+
+    private final LoadTestProperties properties;
+    private final LoadTestTokens tokens;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong created = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        Thread runner = new Thread(() -> run(event.getApplicationContext()), "loadtest-driver");
+        runner.setDaemon(false);
+        runner.start();
+    }
+
+    private void run(ApplicationContext context) {
+        LoadTestProperties.Driver driver = properties.getDriver();
+        String baseUrl = resolveBaseUrl(context, driver);
+        Target target = Target.load(jdbcTemplate);
+        List<String> userTokens = new ArrayList<>();
+        for (int user = 0; user < properties.getTokens().getUsers(); user++) {
+            userTokens.add(tokens.tokenFor(user));
+        }
+        WeightedMix mix = new WeightedMix(driver.getMix());
+        HttpClient client = HttpClient.newHttpClient();
+
+        Map<LoadTestScenario, LatencyRecorder> recorders = new EnumMap<>(LoadTestScenario.class);
+        driver.getMix().keySet().forEach(scenario -> recorders.put(scenario, new LatencyRecorder()));
+
+        log.info("Load test starting against {}: {} workers, warmup {}, duration {}",
+                baseUrl, driver.getConcurrency(), driver.getWarmup(), driver.getDuration());
+        Instant startedAt = Instant.now();
+        long measureFrom = System.nanoTime() + driver.getWarmup().toNanos();
+        long deadline = measureFrom + driver.getDuration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(driver.getConcurrency());
+        for (int i = 0; i < driver.getConcurrency(); i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    LoadTestScenario scenario = mix.next();
+                    String token = userTokens.get(ThreadLocalRandom.current().nextInt(userTokens.size()));
+                    long start = System.nanoTime();
+                    boolean success = execute(client, baseUrl, scenario, token, target, driver);
+                    long end = System.nanoTime();
+                    if (start >= measureFrom) {
+                        recorders.get(scenario).record((end - start) / 1000, success);
+                    }
+                    pause(driver);
+                }
+                return null;
+            });
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(driver.getWarmup().plus(driver.getDuration()).toSeconds() + 60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+
+        writeReport(report(startedAt, baseUrl, driver, recorders));
+        if (driver.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private boolean execute(HttpClient client, String baseUrl, LoadTestScenario scenario, String token,
+                            Target target, LoadTestProperties.Driver driver) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest.Builder request = switch (scenario) {
+            case LIST_EMPLOYEES -> get(baseUrl + "/api/v1/employees?size=20&page=" + random.nextInt(Math.max(1, target.employeePages(20))));
+            case SEARCH_EMPLOYEES -> get(baseUrl + "/api/v1/employees?size=20&search="
+                    + URLEncoder.encode(driver.getSearchTerms().get(random.nextInt(driver.getSearchTerms().size())), StandardCharsets.UTF_8));
+            case EMPLOYEES_BY_DEPARTMENT -> get(baseUrl + "/api/v1/employees?size=20&departmentId=" + target.randomDepartment());
+            case GET_EMPLOYEE -> get(baseUrl + "/api/v1/employees/" + target.randomEmployee());
+            case LIST_DEPARTMENTS -> get(baseUrl + "/api/v1/departments");
+            case GET_DEPARTMENT -> get(baseUrl + "/api/v1/departments/" + target.randomDepartment());
+            case CREATE_EMPLOYEE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/employees"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(newEmployeeJson(target)));
+        };
+        try {
+            HttpResponse<Void> response = client.send(request
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(driver.getRequestTimeout())
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private String newEmployeeJson(Target target) {
+        long n = created.incrementAndGet();
+        String unique = Long.toString(System.currentTimeMillis(), 36) + "-" + n;
+        return "{\"name\":\"Load Test Hire " + n + "\","
+                + "\"email\":\"hire-" + unique + "@loadtest.local\","
+                + "\"employeeId\":\"H" + unique.substring(Math.max(0, unique.length() - 18)) + "\","
+                + "\"status\":\"ACTIVE\","
+                + "\"hireDate\":\"" + LocalDate.now() + "\","
+                + "\"salary\":" + (40_000 + ThreadLocalRandom.current().nextInt(100_000)) + ","
+                + "\"jobTitle\":\"Software Engineer\","
+                + "\"departmentId\":" + target.randomDepartment() + "}";
+    }
+
+    private static void pause(LoadTestProperties.Driver driver) {
+        if (driver.getThinkTime().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(driver.getThinkTime().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String resolveBaseUrl(ApplicationContext context, LoadTestProperties.Driver driver) {
+        if (StringUtils.hasText(driver.getBaseUrl())) {
+            return driver.getBaseUrl();
+        }
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    private LoadTestReport report(Instant startedAt, String baseUrl, LoadTestProperties.Driver driver,
+                                  Map<LoadTestScenario, LatencyRecorder> recorders) {
+        double seconds = driver.getDuration().toMillis() / 1000.0;
+        LatencyRecorder total = new LatencyRecorder();
+        List<LoadTestReport.ScenarioResult> scenarios = new ArrayList<>();
+        recorders.forEach((scenario, recorder) -> {
+            scenarios.add(recorder.summarize(scenario.name(), seconds));
+            recorder.mergeInto(total);
+        });
+        return LoadTestReport.builder()
+                .startedAt(startedAt)
+                .baseUrl(baseUrl)
+                .concurrency(driver.getConcurrency())
+                .durationSeconds(seconds)
+                .mix(driver.getMix())
+                .total(total.summarize("TOTAL", seconds))
+                .scenarios(scenarios)
+                .build();
+    }
+
+    private void writeReport(LoadTestReport report) {
+        LoadTestReport.ScenarioResult total = report.getTotal();
+        log.info("Load test finished: {} requests, {} errors, {} req/s, p50={} ms p99={} ms",
+                total.getRequests(), total.getErrors(), String.format("%.1f", total.getThroughputPerSecond()),
+                total.getP50Ms(), total.getP99Ms());
+        report.getScenarios().forEach(s -> log.info("  {} - {} req ({} errors), p50={} ms p90={} ms p99={} ms max={} ms",
+                s.getScenario(), s.getRequests(), s.getErrors(), s.getP50Ms(), s.getP90Ms(), s.getP99Ms(), s.getMaxMs()));
+        try {
+            Path file = Path.of(properties.getDriver().getReportFile());
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .writeValue(file.toFile(), report);
+            log.info("Load-test report written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            log.error("Could not write load-test report", e);
+        }
+    }
+
+    /**
+     * Id ranges of the data under test, read once before the run
+     */
+    private record Target(long minEmployeeId, long maxEmployeeId, long employees, List<Long> departmentIds) {
+
+        static Target load(JdbcTemplate jdbcTemplate) {
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    "SELECT coalesce(min(id), 0) AS min_id, coalesce(max(id), 0) AS max_id, count(*) AS total FROM employees");
+            List<Long> departments = jdbcTemplate.queryForList("SELECT id FROM departments ORDER BY id", Long.class);
+            if (departments.isEmpty()) {
+                throw new IllegalStateException("No departments to load-test against - enable ems.loadtest.seed");
+            }
+            return new Target(((Number) range.get("min_id")).longValue(), ((Number) range.get("max_id")).longValue(),
+                    ((Number) range.get("total")).longValue(), departments);
+        }
+
+        long randomEmployee() {
+            return ThreadLocalRandom.current().nextLong(minEmployeeId, maxEmployeeId + 1);
+        }
+
+        long randomDepartment() {
+            return departmentIds.get(ThreadLocalRandom.current().nextInt(departmentIds.size()));
+        }
+
+        int employeePages(int size) {
+            return (int) Math.min(Integer.MAX_VALUE, employees / size);
+        }
+    }
+
+    /**
+     * Picks scenarios in proportion to their configured weight
+     */
+    private static class WeightedMix {
+
+        private final LoadTestScenario[] scenarios;
+        private final int[] cumulative;
+
+        WeightedMix(Map<LoadTestScenario, Integer> weights) {
+            scenarios = weights.keySet().toArray(new LoadTestScenario[0]);
+            cumulative = new int[scenarios.length];
+            int sum = 0;
+            for (int i = 0; i < scenarios.length; i++) {
+                sum += Math.max(0, weights.get(scenarios[i]));
+                cumulative[i] = sum;
+            }
+            if (sum == 0) {
+                throw new IllegalStateException("ems.loadtest.driver.mix needs at least one positive weight");
+            }
+        }
+
+        LoadTestScenario next() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (pick < cumulative[i]) {
+                    return scenarios[i];
+                }
+            }
+            return scenarios[scenarios.length - 1];
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.pradeep.ems.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load-test harness settings (ems.loadtest.*), only used with the "loadtest" profile
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.loadtest")
+public class LoadTestProperties {
+
+    private Tokens tokens = new Tokens();
+    private UserService userService = new UserService();
+    private Seed seed = new Seed();
+    private Driver driver = new Driver();
+
+    /**
+     * ID tokens signed with a key generated at startup instead of Google's
+     */
+    @Getter
+    @Setter
+    public static class Tokens {
+        private String issuer = "https://accounts.google.com";
+        private String audience = "ems-loadtest";
+
+        /**
+         * Distinct users the driver spreads its requests over
+         */
+        private int users = 50;
+        private Duration validity = Duration.ofHours(12);
+    }
+
+    /**
+     * In-process stand-in for the user service authority endpoints
+     */
+    @Getter
+    @Setter
+    public static class UserService {
+        private int port = 18082;
+        private String authority = "ROLE_HR";
+
+        /**
+         * Added to every authority lookup, plus up to latencyJitter at random
+         */
+        private Duration latency = Duration.ofMillis(5);
+        private Duration latencyJitter = Duration.ofMillis(5);
+        private int threads = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class Seed {
+        private boolean enabled = true;
+        private int departments = 20;
+
+        /**
+         * Seeding is skipped when the employees table already holds at least this many rows
+         */
+        private int employees = 10_000;
+        private long randomSeed = 42;
+    }
+
+    @Getter
+    @Setter
+    public static class Driver {
+        private boolean enabled = false;
+
+        /**
+         * Target to drive; empty means this application on its local port
+         */
+        private String baseUrl;
+        private int concurrency = 16;
+        private Duration warmup = Duration.ofSeconds(10);
+        private Duration duration = Duration.ofSeconds(60);
+
+        /**
+         * Pause between two requests of the same worker (0 = closed loop at full speed)
+         */
+        private Duration thinkTime = Duration.ZERO;
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private String reportFile = "target/loadtest-report.json";
+
+        /**
+         * Values for the search scenario, picked at random
+         */
+        private List<String> searchTerms = List.of("Sharma", "Patel", "Kumar", "Smith", "Chen", "Garcia", "Rao", "Singh");
+
+        /**
+         * Shut the application down once the report is written
+         */
+        private boolean exitWhenDone = true;
+
+        /**
+         * Relative weight of each scenario in the mix
+         */
+        private Map<LoadTestScenario, Integer> mix = defaultMix();
+
+        private static Map<LoadTestScenario, Integer> defaultMix() {
+            Map<LoadTestScenario, Integer> mix = new EnumMap<>(LoadTestScenario.class);
+            mix.put(LoadTestScenario.LIST_EMPLOYEES, 30);
+            mix.put(LoadTestScenario.SEARCH_EMPLOYEES, 15);
+            mix.put(LoadTestScenario.EMPLOYEES_BY_DEPARTMENT, 10);
+            mix.put(LoadTestScenario.GET_EMPLOYEE, 25);
+            mix.put(LoadTestScenario.LIST_DEPARTMENTS, 5);
+            mix.put(LoadTestScenario.GET_DEPARTMENT, 5);
+            mix.put(LoadTestScenario.CREATE_EMPLOYEE, 10);
+            return mix;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.pradeep.ems.loadtest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of one load-test run, written as JSON to ems.loadtest.driver.report-file
+ */
+@Data
+@Builder
+public class LoadTestReport {
+
+    private Instant startedAt;
+    private String baseUrl;
+    private int concurrency;
+    private double durationSeconds;
+    private Map<LoadTestScenario, Integer> mix;
+    private ScenarioResult total;
+    private List<ScenarioResult> scenarios;
+
+    @Data
+    @Builder
+    public static class ScenarioResult {
+        private String scenario;
+        private long requests;
+        private long errors;
+        private double throughputPerSecond;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double p999Ms;
+        private double maxMs;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pradeep.ems.loadtest;
+
+/**
+ * Request types the load-test driver mixes
+ */
+public enum LoadTestScenario {
+    LIST_EMPLOYEES(false),
+    SEARCH_EMPLOYEES(false),
+    EMPLOYEES_BY_DEPARTMENT(false),
+    GET_EMPLOYEE(false),
+    LIST_DEPARTMENTS(false),
+    GET_DEPARTMENT(false),
+    CREATE_EMPLOYEE(true);
+
+    private final boolean write;
+
+    LoadTestScenario(boolean write) {
+        this.write = write;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+}
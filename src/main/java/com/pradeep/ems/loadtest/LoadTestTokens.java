@@ -0,0 +1,69 @@
+package com.pradeep.ems.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Mints Google-shaped ID tokens (sub, email, name) with a key pair generated at startup
+ */
+public class LoadTestTokens {
+
+    private final RSAKey key;
+    private final LoadTestProperties.Tokens properties;
+
+    public LoadTestTokens(LoadTestProperties.Tokens properties) {
+        this.properties = properties;
+        try {
+            this.key = new RSAKeyGenerator(2048).keyID("ems-loadtest").generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate the load-test signing key", e);
+        }
+    }
+
+    public RSAPublicKey publicKey() {
+        try {
+            return key.toRSAPublicKey();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String email(int user) {
+        return "loadtest-user-" + user + "@loadtest.local";
+    }
+
+    /**
+     * Signed token for load-test user number {@code user}
+     */
+    public String tokenFor(int user) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(properties.getIssuer())
+                .audience(List.of(properties.getAudience()))
+                .subject(String.valueOf(100_000_000_000L + user))
+                .claim("email", email(user))
+                .claim("email_verified", true)
+                .claim("name", "Load Test User " + user)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(properties.getValidity())))
+                .build();
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+            jwt.sign(new RSASSASigner(key));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign load-test token", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.pradeep.ems.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Answers GET /api/users/{email}/authorities and /api/users/google/{googleId}/authorities
+ * the way the user service does, granting every user the configured authority after the
+ * configured latency. Runs on the JDK HTTP server so no extra dependency is needed.
+ */
+@Slf4j
+public class StubUserService {
+
+    private final LoadTestProperties.UserService properties;
+    private final byte[] body;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubUserService(LoadTestProperties.UserService properties) {
+        this.properties = properties;
+        this.body = ("{\"authorities\":[\"" + properties.getAuthority() + "\"]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stub user service could not bind port " + properties.getPort(), e);
+        }
+        executor = Executors.newFixedThreadPool(properties.getThreads());
+        server.setExecutor(executor);
+        server.createContext("/api/users/", this::handle);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())
+                    || !exchange.getRequestURI().getPath().endsWith("/authorities")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            simulateLatency();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void simulateLatency() {
+        long millis = properties.getLatency().toMillis();
+        long jitter = properties.getLatencyJitter().toMillis();
+        if (jitter > 0) {
+            millis += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
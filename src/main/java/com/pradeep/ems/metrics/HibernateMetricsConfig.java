@@ -0,0 +1,81 @@
+package com.pradeep.ems.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Metrics Configuration
+ *
+ * Spring Boot already binds the session-wide Statistics (hibernate.sessions.*, hibernate.entities.*,
+ * hibernate.flushes, hibernate.query.executions.max, hibernate.second.level.cache.* ...).
+ * This adds per-query-string metrics on top, tagged with the HQL/SQL text:
+ * - ems.hibernate.query.executions
+ * - ems.hibernate.query.time (count + total time)
+ * - ems.hibernate.query.time.max
+ *
+ * New query strings are picked up by a periodic scan of Statistics.getQueries().
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+@Slf4j
+public class HibernateMetricsConfig {
+
+    private final Statistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+    @Value("${ems.hibernate-metrics.max-queries:500}")
+    private int maxQueries;
+
+    public HibernateMetricsConfig(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${ems.hibernate-metrics.refresh-interval-ms:30000}")
+    public void registerQueryMetrics() {
+        for (String query : statistics.getQueries()) {
+            if (registered.size() >= maxQueries) {
+                log.debug("Per-query metrics capped at {} query strings", maxQueries);
+                return;
+            }
+            if (registered.add(query)) {
+                bind(query);
+            }
+        }
+    }
+
+    private void bind(String query) {
+        FunctionCounter.builder("ems.hibernate.query.executions", statistics,
+                        s -> s.getQueryStatistics(query).getExecutionCount())
+                .tag("query", query)
+                .description("Executions of this query since startup or the last statistics reset")
+                .register(meterRegistry);
+        FunctionTimer.builder("ems.hibernate.query.time", statistics,
+                        s -> s.getQueryStatistics(query).getExecutionCount(),
+                        s -> s.getQueryStatistics(query).getExecutionTotalTime(),
+                        TimeUnit.MILLISECONDS)
+                .tag("query", query)
+                .description("Total execution time of this query")
+                .register(meterRegistry);
+        TimeGauge.builder("ems.hibernate.query.time.max", statistics, TimeUnit.MILLISECONDS,
+                        s -> s.getQueryStatistics(query).getExecutionMaxTime())
+                .tag("query", query)
+                .description("Slowest execution of this query")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.pradeep.ems.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches to the current request scope.
+ * Registered for every session through hibernate.session.events.auto.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        QueryCountHolder.QueryCount count = QueryCountHolder.current();
+        if (count != null) {
+            count.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCountHolder.QueryCount count = QueryCountHolder.current();
+        if (count != null) {
+            count.executionEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
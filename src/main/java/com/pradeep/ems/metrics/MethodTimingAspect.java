@@ -0,0 +1,96 @@
+package com.pradeep.ems.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every controller handler, service implementation method, repository call and
+ * UserServiceClient call as ems.method (tags: layer, class, method).
+ *
+ * Histogram buckets, SLOs and percentiles are configured per meter name under
+ * management.metrics.distribution.*.ems.method; with tracing enabled the Prometheus
+ * registry attaches trace exemplars to the buckets.
+ *
+ * Timers are cached per target class and Method so the hot path is two map lookups and two
+ * nanoTime calls. The class is part of the key because inherited methods are shared: every
+ * repository's findById is the same CrudRepository Method.
+ * Order -1 wraps the workload aspect and the @Transactional interceptor, so service
+ * timings include commit time.
+ */
+@Aspect
+@Component
+@Order(-1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ems.metrics.method-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+
+    public static final String METRIC_NAME = "ems.method";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    @Around("within(com.pradeep.ems.controller..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+
+    @Around("execution(* com.pradeep.ems.service.impl..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("bean(*Repository) && this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository");
+    }
+
+    @Around("execution(* com.pradeep.ems.client..*(..))")
+    public Object timeClient(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "client");
+    }
+
+    Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timers.computeIfAbsent(joinPoint.getTarget().getClass(), type -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(method, m -> Timer.builder(METRIC_NAME)
+                            .description("Latency of EMS controller, service, repository and client methods")
+                            .tag("layer", layer)
+                            .tag("class", className(joinPoint, layer))
+                            .tag("method", m.getName())
+                            .register(meterRegistry))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String className(ProceedingJoinPoint joinPoint, String layer) {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        if ("repository".equals(layer)) {
+            // Repository calls land on Spring Data's proxy; report the repository interface instead
+            for (Class<?> type : targetClass.getInterfaces()) {
+                if (type.getPackageName().startsWith("com.pradeep.ems")) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(targetClass).getSimpleName();
+    }
+}
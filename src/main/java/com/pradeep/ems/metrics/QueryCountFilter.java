@@ -0,0 +1,84 @@
+package com.pradeep.ems.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many SQL statements each request issued and how long they took on JDBC.
+ *
+ * Metrics (tagged with method and URI template):
+ * - ems.request.queries   - statements per request, including requests served without SQL
+ * - ems.request.jdbc.time - total JDBC execution time per request
+ *
+ * Requests above ems.query-count.warn-threshold are logged as likely N+1 patterns.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ems.query-count.warn-threshold:20}")
+    private int warnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountHolder.QueryCount count = QueryCountHolder.open();
+        if (count == null) {
+            // An outer scope (e.g. a test assertion) is already counting
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountHolder.close();
+            record(request, count);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCountHolder.QueryCount count) {
+        // Zero-statement requests (cache hits) are recorded too: they are part of the distribution
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("ems.request.queries")
+                .description("SQL statements issued per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count.getStatements());
+        Timer.builder("ems.request.jdbc.time")
+                .description("Total JDBC execution time per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (count.getStatements() > warnThreshold) {
+            log.warn("{} {} issued {} SQL statements ({} ms on JDBC) - threshold is {}, check for N+1 queries",
+                    request.getMethod(), uri, count.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(count.getJdbcNanos()), warnThreshold);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.pradeep.ems.metrics;
+
+/**
+ * Per-thread statement counter for the request (or test) currently being executed.
+ *
+ * QueryCountFilter opens a scope for each HTTP request; tests can open their own scope
+ * around a call to pin the number of statements it issues. Statements executed while
+ * no scope is open (startup, scheduled jobs) are not counted.
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    /**
+     * Opens a scope on the current thread, or returns null when one is already open
+     * (the outer scope keeps collecting)
+     */
+    public static QueryCount open() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        QueryCount count = new QueryCount();
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Statements and JDBC execution time accumulated in one scope
+     */
+    public static final class QueryCount {
+        private int statements;
+        private long jdbcNanos;
+        private long executionStartedAt;
+
+        void statementPrepared() {
+            statements++;
+        }
+
+        void executionStarted() {
+            executionStartedAt = System.nanoTime();
+        }
+
+        void executionEnded() {
+            if (executionStartedAt != 0) {
+                jdbcNanos += System.nanoTime() - executionStartedAt;
+                executionStartedAt = 0;
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getJdbcNanos() {
+            return jdbcNanos;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pradeep.ems.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares for the current request scope.
+ * The SQL itself is passed through unchanged.
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.QueryCount count = QueryCountHolder.current();
+        if (count != null) {
+            count.statementPrepared();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,98 @@
+package com.pradeep.ems.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-bean startup cost, from the BufferingApplicationStartup set up in main().
+ *
+ * Once the application is ready, logs the slowest bean instantiations and exports them as
+ * ems.startup.bean.time (tagged with bean). Times are self times: the instantiation of the
+ * beans a bean pulls in is charged to those beans, not to it. Time-to-ready itself is Boot's
+ * application.ready.time; the full timeline is at /actuator/startup.
+ *
+ * Reads the timeline without draining it, so /actuator/startup still has every step.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartupTimingReporter {
+
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ems.startup.slowest-beans:15}")
+    private int slowestBeans;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        List<BeanTiming> slowest = selfTimes(timeline.getEvents()).stream()
+                .sorted(Comparator.comparing(BeanTiming::selfTime).reversed())
+                .limit(slowestBeans)
+                .toList();
+
+        StringBuilder report = new StringBuilder();
+        for (BeanTiming timing : slowest) {
+            TimeGauge.builder("ems.startup.bean.time", timing, TimeUnit.NANOSECONDS, t -> t.selfTime().toNanos())
+                    .description("Time spent instantiating the bean at startup, excluding its dependencies")
+                    .tag("bean", timing.bean())
+                    .strongReference(true)
+                    .register(meterRegistry);
+            report.append(String.format("%n  %6d ms  %s", timing.selfTime().toMillis(), timing.bean()));
+        }
+        log.info("Ready in {} ms ({} startup steps recorded); slowest beans:{}",
+                event.getTimeTaken().toMillis(), timeline.getEvents().size(), report);
+    }
+
+    static List<BeanTiming> selfTimes(List<StartupTimeline.TimelineEvent> events) {
+        Map<Long, String> beans = new HashMap<>();
+        Map<Long, Duration> selfTimes = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (BEAN_INSTANTIATE.equals(step.getName())) {
+                beans.put(step.getId(), beanName(step));
+                selfTimes.merge(step.getId(), event.getDuration(), Duration::plus);
+            }
+            // Children end before their parent, so the parent may not have been seen yet
+            if (step.getParentId() != null) {
+                selfTimes.merge(step.getParentId(), event.getDuration().negated(), Duration::plus);
+            }
+        }
+        return beans.entrySet().stream()
+                .map(bean -> new BeanTiming(bean.getValue(), selfTimes.get(bean.getKey())))
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "step-" + step.getId();
+    }
+
+    record BeanTiming(String bean, Duration selfTime) {
+    }
+}
@@ -0,0 +1,302 @@
+package com.pradeep.ems.outbox;
+
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import com.pradeep.ems.dto.response.ChangeEventDto;
+import com.pradeep.ems.entity.OutboxEvent;
+import com.pradeep.ems.event.DepartmentChangedEvent;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import com.pradeep.ems.exception.ServiceUnavailableException;
+import com.pradeep.ems.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Change Feed
+ *
+ * Streams outbox_events to SSE subscribers. Every subscriber has its own cursor (the last
+ * offset it was sent) and resumes from any retained offset via Last-Event-ID.
+ *
+ * - One dispatcher thread loads new outbox rows into an in-memory tail and hands each
+ *   subscriber that is behind its next batch; subscribers near the head are served from
+ *   the tail, subscribers further behind (resuming, slow) read their batch from the outbox.
+ * - Batching: a batch is everything after the cursor, up to ems.changes.batch-size, sent
+ *   as one SSE event - single changes when quiet, full batches under load.
+ * - Backpressure: a subscriber has at most one batch in flight and gets the next one only
+ *   after the previous write finished, so a slow consumer just falls behind (and catches up
+ *   from the outbox) instead of queueing memory. One whose write stalls past
+ *   ems.changes.send-timeout is disconnected and can resume.
+ *
+ * Commits on this instance wake the dispatcher immediately; changes from other instances
+ * are picked up every ems.changes.poll-interval.
+ */
+@Component
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+@Slf4j
+public class ChangeFeed {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeFeedProperties properties;
+    private final Counter slowDisconnects;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Every retained row with an offset in [firstKey, head]; written by the dispatcher only
+    private final ConcurrentSkipListMap<Long, ChangeEventDto> tail = new ConcurrentSkipListMap<>();
+    private int tailSize;
+    private volatile long head = -1;  // -1 until started
+
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(daemon("change-feed-dispatch"));
+    private final ThreadPoolExecutor senders;
+    private final AtomicBoolean wakePending = new AtomicBoolean();
+
+    public ChangeFeed(OutboxEventRepository outboxEventRepository, ChangeFeedProperties properties, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        // At most one write in flight per subscriber, so the pool never needs more threads than subscribers
+        this.senders = new ThreadPoolExecutor(0, properties.getMaxSubscribers(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemon("change-feed-send"));
+        this.slowDisconnects = Counter.builder("ems.changes.slow.disconnects")
+                .description("Change feed subscribers disconnected because a write stalled")
+                .register(meterRegistry);
+        Gauge.builder("ems.changes.subscribers", subscribers, Set::size)
+                .description("Open change feed streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the changes after {@code after}; null streams only changes from now on
+     */
+    public SseEmitter subscribe(Long after) {
+        if (head < 0 || !properties.isEnabled()) {
+            throw new ServiceUnavailableException("Change feed is not available");
+        }
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceUnavailableException("Change feed subscriber limit reached, retry later");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Long oldest = after != null ? outboxEventRepository.findMinId() : null;
+        if (oldest != null && after < oldest - 1) {
+            // Pruned past the consumer's offset: it has to resync from the API, then resume from here
+            try {
+                emitter.send(SseEmitter.event().name("expired").data(Map.of("oldestOffset", oldest), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, after != null ? after : head);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        wake();
+        return emitter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Long max = outboxEventRepository.findMaxId();
+        head = max != null ? max : 0;
+        long poll = properties.getPollInterval().toMillis();
+        dispatcher.scheduleWithFixedDelay(this::dispatch, poll, poll, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        wake();
+    }
+
+    @TransactionalEventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        wake();
+    }
+
+    @Scheduled(fixedDelayString = "${ems.changes.prune-interval-ms:3600000}")
+    @Workload(WorkloadType.BATCH)
+    public void pruneOutbox() {
+        if (properties.isEnabled()) {
+            int deleted = outboxEventRepository.deleteCreatedBefore(LocalDateTime.now().minus(properties.getRetention()));
+            log.debug("Pruned {} outbox events older than {}", deleted, properties.getRetention());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Coalesces wake-ups: at most one extra dispatch is queued however many commits arrive
+     */
+    private void wake() {
+        if (head >= 0 && wakePending.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                wakePending.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    private void dispatch() {
+        try {
+            refreshTail();
+            long now = System.nanoTime();
+            long heartbeat = properties.getHeartbeatInterval().toNanos();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.inFlightSince != 0) {
+                    if (now - subscriber.inFlightSince > properties.getSendTimeout().toNanos()) {
+                        log.info("Disconnecting change feed subscriber stuck at offset {}", subscriber.cursor);
+                        subscribers.remove(subscriber);
+                        slowDisconnects.increment();
+                        subscriber.emitter.complete();
+                    }
+                } else if (subscriber.cursor < head || now - subscriber.lastSent > heartbeat) {
+                    subscriber.inFlightSince = now;
+                    senders.execute(() -> send(subscriber));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Change feed dispatch failed", e);
+        }
+    }
+
+    /**
+     * Appends committed rows after head (outbox ids become visible in commit order, see
+     * OutboxWriter) and trims the tail to ems.changes.tail-cache-size
+     */
+    private void refreshTail() {
+        int batchSize = properties.getBatchSize();
+        int loaded = 0;
+        List<OutboxEvent> rows;
+        do {
+            rows = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(head, PageRequest.of(0, batchSize));
+            for (OutboxEvent row : rows) {
+                tail.put(row.getId(), toDto(row));
+                tailSize++;
+                head = row.getId();
+            }
+            loaded += rows.size();
+            while (tailSize > properties.getTailCacheSize()) {
+                tail.pollFirstEntry();
+                tailSize--;
+            }
+        } while (rows.size() == batchSize && loaded < properties.getTailCacheSize());
+        if (rows.size() == batchSize) {
+            wake();  // more to load - continue after serving this much
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            List<ChangeEventDto> batch = subscriber.cursor < head ? nextBatch(subscriber.cursor) : List.of();
+            if (batch.isEmpty()) {
+                subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+            } else {
+                long last = batch.get(batch.size() - 1).getOffset();
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(last))
+                        .name("changes")
+                        .data(batch, MediaType.APPLICATION_JSON));
+                subscriber.cursor = last;
+            }
+            subscriber.lastSent = System.nanoTime();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away (or the emitter already completed)
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            log.warn("Change feed batch after offset {} failed", subscriber.cursor, e);
+        } finally {
+            subscriber.inFlightSince = 0;
+            if (subscriber.cursor < head) {
+                wake();
+            }
+        }
+    }
+
+    private List<ChangeEventDto> nextBatch(long cursor) {
+        Long first = tail.isEmpty() ? null : tail.firstKey();
+        if (first != null && cursor >= first - 1) {
+            List<ChangeEventDto> batch = tail.tailMap(cursor, false).values().stream()
+                    .limit(properties.getBatchSize())
+                    .toList();
+            // Trimming only removes the lowest offsets: if it has not passed the cursor yet,
+            // nothing this batch needed was missing while it was read
+            if (!tail.isEmpty() && tail.firstKey() <= cursor + 1) {
+                return batch;
+            }
+        }
+        return outboxEventRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, properties.getBatchSize()))
+                .stream()
+                .map(ChangeFeed::toDto)
+                .toList();
+    }
+
+    private static ChangeEventDto toDto(OutboxEvent row) {
+        return ChangeEventDto.builder()
+                .offset(row.getId())
+                .entity(row.getAggregateType())
+                .entityId(row.getAggregateId())
+                .type(row.getEventType())
+                .occurredAt(row.getCreatedAt())
+                .payload(row.getPayload())
+                .build();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+
+        final SseEmitter emitter;
+        volatile long cursor;
+        volatile long inFlightSince;  // System.nanoTime() of the write in progress, 0 when idle
+        volatile long lastSent = System.nanoTime();
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.pradeep.ems.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox and change feed settings (ems.changes.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.changes")
+public class ChangeFeedProperties {
+
+    /**
+     * Write employee and department changes to the outbox table
+     */
+    private boolean enabled = true;
+
+    /**
+     * Most changes sent in one SSE event; busy streams fill batches, quiet ones send single changes
+     */
+    private int batchSize = 500;
+
+    /**
+     * Recent changes kept in memory, so consumers near the head never query the outbox
+     */
+    private int tailCacheSize = 10_000;
+
+    private int maxSubscribers = 50;
+
+    /**
+     * How often the outbox is checked for changes committed by other instances
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * A subscriber whose batch has not been written within this time is disconnected;
+     * it can reconnect with Last-Event-ID and resume
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Stream lifetime before the server closes it; EventSource clients reconnect and resume
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    private Duration retention = Duration.ofDays(7);
+}
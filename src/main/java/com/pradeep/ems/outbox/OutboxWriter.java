@@ -0,0 +1,64 @@
+package com.pradeep.ems.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pradeep.ems.entity.OutboxEvent;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.DepartmentChangedEvent;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import com.pradeep.ems.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes every employee and department change to outbox_events in the transaction that
+ * made it (BEFORE_COMMIT), so the outbox holds exactly the committed changes. A failed
+ * outbox write rolls the change back.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    static final String EMPLOYEE = "EMPLOYEE";
+    static final String DEPARTMENT = "DEPARTMENT";
+    private static final long WRITE_LOCK_KEY = 0x6f7574626f78L;  // "outbox"
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ChangeFeedProperties properties;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        write(EMPLOYEE, event.employeeId(), event.type(), event.after() != null ? event.after() : event.before());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        write(DEPARTMENT, event.departmentId(), event.type(), event.department());
+    }
+
+    private void write(String aggregateType, Long aggregateId, ChangeType type, Object state) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise " + aggregateType + " " + aggregateId + " for the outbox", e);
+        }
+        // Held until commit: this transaction's id is visible before any later writer's
+        outboxEventRepository.lockForWrite(WRITE_LOCK_KEY);
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(type.name())
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
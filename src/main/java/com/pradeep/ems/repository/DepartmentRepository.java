@@ -16,8 +16,8 @@ import java.util.Optional;
  * 1. Derived Query Method (findByName)
  * 2. JPQL Query with Fetch Join (findByIdWithEmployees - prevents N+1 problem)
  * 2b. Entity Graph (declarative eager loading - findByIdWithEmployeesGraph)
- * 3. JPQL Query with Collection Size (findEmptyDepartments - uses SIZE() function)
- * 4. Native SQL Query (findDepartmentsWithEmployeeCountAbove)
+ * 3. JPQL Query with NOT EXISTS (findEmptyDepartments)
+ * 4. Native SQL Query with GROUP BY / HAVING (findDepartmentsWithEmployeeCountAbove)
  * 5. Modifying Query (updateDepartmentBudget)
  * 6. Specifications (via JpaSpecificationExecutor - for dynamic queries)
  */
@@ -38,13 +38,15 @@ public interface DepartmentRepository extends JpaRepository<Department, Long>, J
     @Override
     Optional<Department> findById(Long id);
     
-    // 3. JPQL QUERY WITH COLLECTION SIZE - Uses SIZE() function to query collection size
-    @Query("SELECT d FROM Department d WHERE SIZE(d.employees) = 0")
+    // 3. JPQL QUERY WITH NOT EXISTS - Stops at the first employee per department
+    // (SIZE(d.employees) = 0 counted every employee of every department)
+    @Query("SELECT d FROM Department d WHERE NOT EXISTS (SELECT 1 FROM Employee e WHERE e.department = d)")
     java.util.List<Department> findEmptyDepartments();
 
-    // 4. NATIVE SQL QUERY - Complex query using native SQL with subquery
+    // 4. NATIVE SQL QUERY - One grouped pass over idx_employee_department instead of a correlated COUNT per department
     @Query(value = "SELECT d.* FROM departments d " +
-                   "WHERE (SELECT COUNT(*) FROM employees e WHERE e.department_id = d.id) > :minCount", 
+                   "JOIN (SELECT e.department_id FROM employees e GROUP BY e.department_id HAVING COUNT(*) > :minCount) c " +
+                   "ON c.department_id = d.id",
            nativeQuery = true)
     java.util.List<Department> findDepartmentsWithEmployeeCountAbove(@Param("minCount") int minCount);
 
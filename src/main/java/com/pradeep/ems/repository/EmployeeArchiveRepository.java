@@ -0,0 +1,151 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Cold storage for long-terminated employees: employees_archive, range-partitioned by
+ * terminated_at (the updated_at of the TERMINATED row when it was archived) with one
+ * partition per year, created on demand. The parent table and its indexes are created
+ * at startup by schema.sql.
+ *
+ * employees has no termination timestamp, so the termination date is the row's last
+ * update: any later edit of a terminated employee (a corrected address, say) restarts
+ * the retention clock, and the employee is archived that much later.
+ *
+ * Rows keep their employee id, so reads by id can fall through from employees. Plain JDBC
+ * because JPA can neither declare partitioned tables nor move rows in one statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeArchiveRepository {
+
+    public static final String TABLE = "employees_archive";
+
+    private static final String COLUMNS = EmployeeRowMapper.COLUMNS;
+
+    // Sortable listing properties (Employee attribute -> column) for archive-inclusive searches
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("id", "id"), Map.entry("name", "name"), Map.entry("email", "email"),
+            Map.entry("employeeId", "employee_id"), Map.entry("status", "status"),
+            Map.entry("hireDate", "hire_date"), Map.entry("salary", "salary"), Map.entry("jobTitle", "job_title"),
+            Map.entry("createdAt", "created_at"), Map.entry("updatedAt", "updated_at"));
+
+    private static final RowMapper<EmployeeResponseDto> EMPLOYEE = EmployeeRowMapper.WITH_ARCHIVED_AT;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Oldest termination (last update, see above) among employees eligible for archival,
+     * or null if there are none
+     */
+    public LocalDateTime oldestEligible(LocalDateTime terminatedBefore) {
+        return jdbcTemplate.queryForObject("SELECT min(updated_at) FROM employees "
+                + "WHERE status = 'TERMINATED' AND updated_at < ?", LocalDateTime.class, terminatedBefore);
+    }
+
+    /**
+     * Yearly partitions covering [from, to], so rows terminated in that range can be inserted
+     */
+    public void createPartitions(LocalDateTime from, LocalDateTime to) {
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + "_y" + year + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + LocalDate.of(year, 1, 1) + "') TO ('" + LocalDate.of(year + 1, 1, 1) + "')");
+        }
+    }
+
+    /**
+     * Moves up to {@code limit} employees terminated before the cutoff from employees into
+     * the archive in one statement, skipping rows locked by concurrent writers. Returns the
+     * moved employees as they were before the move. Must run in a transaction.
+     */
+    public List<EmployeeResponseDto> archiveBatch(LocalDateTime terminatedBefore, int limit, LocalDateTime archivedAt) {
+        return jdbcTemplate.query("WITH moved AS ("
+                + "DELETE FROM employees WHERE id IN (SELECT id FROM employees "
+                + "WHERE status = 'TERMINATED' AND updated_at < ? LIMIT ? FOR UPDATE SKIP LOCKED) "
+                + "RETURNING " + COLUMNS + "), "
+                + "archived AS (INSERT INTO " + TABLE + " (" + COLUMNS + ", terminated_at, archived_at) "
+                + "SELECT " + COLUMNS + ", updated_at, ? FROM moved) "
+                + "SELECT m.*, d.name AS department_name, CAST(NULL AS timestamp) AS archived_at "
+                + "FROM moved m LEFT JOIN departments d ON d.id = m.department_id",
+                EMPLOYEE, terminatedBefore, limit, archivedAt);
+    }
+
+    public Optional<EmployeeResponseDto> findById(Long id) {
+        return jdbcTemplate.query("SELECT a.*, d.name AS department_name FROM " + TABLE + " a "
+                + "LEFT JOIN departments d ON d.id = a.department_id WHERE a.id = ?", EMPLOYEE, id).stream().findFirst();
+    }
+
+    /**
+     * The employee listing over employees and the archive together, same filter semantics
+     * as the regular listing; fetches one extra row to tell whether another page follows
+     */
+    public Slice<EmployeeResponseDto> searchIncludingArchive(String search, Long departmentId, Pageable pageable) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT u.*, d.name AS department_name FROM (" + union(search, departmentId, params) + ") u "
+                + "LEFT JOIN departments d ON d.id = u.department_id" + orderBy(pageable.getSort());
+        if (pageable.isPaged()) {
+            sql += " LIMIT ? OFFSET ?";
+            params.add(pageable.getPageSize() + 1);
+            params.add(pageable.getOffset());
+        }
+        List<EmployeeResponseDto> rows = jdbcTemplate.query(sql, EMPLOYEE, params.toArray());
+        boolean hasNext = pageable.isPaged() && rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    public long countIncludingArchive(String search, Long departmentId) {
+        List<Object> params = new ArrayList<>();
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + union(search, departmentId, params) + ") u",
+                Long.class, params.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Employees and archived employees as one relation with the given columns, for reports
+     * that cover history (e.g. hiring time series)
+     */
+    public String withArchive(String columns) {
+        return "SELECT " + columns + " FROM employees UNION ALL SELECT " + columns + " FROM " + TABLE;
+    }
+
+    private static String union(String search, Long departmentId, List<Object> params) {
+        String hot = EmployeeRepositoryImpl.listingFilter(search, departmentId, params);
+        String archived = EmployeeRepositoryImpl.listingFilter(search, departmentId, params);
+        return "SELECT " + COLUMNS + ", CAST(NULL AS timestamp) AS archived_at FROM employees e WHERE true" + hot
+                + " UNION ALL SELECT " + COLUMNS + ", archived_at FROM " + TABLE + " e WHERE true" + archived;
+    }
+
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new BadRequestException("sortBy", order.getProperty());
+            }
+            orderBy.add("u." + column + (order.isDescending() ? " DESC" : " ASC"));
+            byId |= column.equals("id");
+        }
+        if (!byId) {
+            orderBy.add("u.id");  // stable pages across both tables
+        }
+        return orderBy.toString();
+    }
+}
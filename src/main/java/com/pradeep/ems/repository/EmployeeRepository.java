@@ -3,6 +3,7 @@ package com.pradeep.ems.repository;
 import com.pradeep.ems.entity.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -25,24 +26,54 @@ import java.util.List;
  * 6. Modifying Query with @Modifying (updateEmployeeStatus)
  * 7. Pagination (findByDepartmentId with Pageable)
  * 8. Specifications (via JpaSpecificationExecutor - for dynamic queries)
+ * 9. Custom fragment (EmployeeRepositoryCustom - count-free slices and planner estimates)
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
 
     // 1. DERIVED QUERY METHOD - Spring Data JPA automatically generates query from method name
+    // Every loader whose results become EmployeeResponseDtos uses Employee.withDepartment, so the
+    // department name does not cost one SELECT per employee
+    @EntityGraph(value = "Employee.withDepartment", type = EntityGraph.EntityGraphType.FETCH)
     List<Employee> findByDepartmentId(Long departmentId);
     
     // 2. PAGINATION - Returns Page instead of List, supports pagination and sorting
+    @EntityGraph(value = "Employee.withDepartment", type = EntityGraph.EntityGraphType.FETCH)
     Page<Employee> findByDepartmentId(Long departmentId, Pageable pageable);
 
+    @EntityGraph(value = "Employee.withDepartment", type = EntityGraph.EntityGraphType.FETCH)
+    @Override
+    Page<Employee> findAll(Specification<Employee> spec, Pageable pageable);
+
+    @EntityGraph(value = "Employee.withDepartment", type = EntityGraph.EntityGraphType.FETCH)
+    @Override
+    List<Employee> findAll(Specification<Employee> spec);
+
     // 3. JPQL QUERY WITH AGGREGATION - Custom query using JPQL, demonstrates aggregation
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
     Long countEmployeesByDepartment(@Param("departmentId") Long departmentId);
+
+    // 3a. The same count for many departments in one grouped query (department listings)
+    @Query("SELECT e.department.id AS departmentId, COUNT(e) AS employees FROM Employee e "
+            + "WHERE e.department.id IN :departmentIds GROUP BY e.department.id")
+    List<DepartmentEmployeeCount> countEmployeesByDepartments(@Param("departmentIds") java.util.Collection<Long> departmentIds);
+
+    interface DepartmentEmployeeCount {
+        Long getDepartmentId();
+
+        Long getEmployees();
+    }
     
     // 4. JPQL QUERY WITH FETCH JOIN - Prevents N+1 problem by eagerly loading related entity
     @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.id = :id")
     java.util.Optional<Employee> findByIdWithDepartment(@Param("id") Long id);
 
+    // 4a. FETCH JOIN BY ID LIST - hydrates cached id lists (EmployeeListCache) in one query
+    @EntityGraph(value = "Employee.withDepartment", type = EntityGraph.EntityGraphType.FETCH)
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids")
+    List<Employee> findAllWithDepartmentByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
     // 4b. ENTITY GRAPH (DECLARATIVE) - Alternative to fetch join, declaratively specifies eager loading
     // Uses @NamedEntityGraph defined on Employee entity - more declarative approach
     // Can override standard methods like findById() - no @Query needed!
@@ -58,9 +89,16 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
 
     // 6. MODIFYING QUERY - Updates database directly, requires @Modifying
     // Note: @Transactional should be at service layer (best practice), not here
-    @Modifying
-    @Query("UPDATE Employee e SET e.status = :status WHERE e.id = :id")
-    int updateEmployeeStatus(@Param("id") Long id, @Param("status") String status);
+    // clearAutomatically: entities loaded earlier in the transaction would still show the old status
+    // Bulk updates skip @PreUpdate/@Version: stamp updatedAt and bump version by hand so delta sync sees the change
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.status = :status, e.updatedAt = :updatedAt, e.version = e.version + 1 WHERE e.id = :id")
+    int updateEmployeeStatus(@Param("id") Long id, @Param("status") String status,
+                             @Param("updatedAt") java.time.LocalDateTime updatedAt);
+
+    // 6b. VERSION ONLY - tells a stale version from a missing employee after a failed conditional update
+    @Query("SELECT e.version FROM Employee e WHERE e.id = :id")
+    java.util.Optional<Long> findVersionById(@Param("id") Long id);
 
     // 7. FIND BY CREATION DATE - Find employees created on a specific date
     @Query("SELECT e FROM Employee e WHERE e.createdAt >= :startDate AND e.createdAt < :endDate")
@@ -0,0 +1,67 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.entity.Employee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom fragment of EmployeeRepository for listings that must not pay for COUNT(*),
+ * for aggregates over the listing filters that JPQL can't express, and for partial
+ * updates that write only the changed columns
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * One page of matching employees fetched as pageSize + 1 rows, so hasNext is known without counting.
+     * Loaded with the Employee.withDepartment graph.
+     */
+    Slice<Employee> findSlice(Specification<Employee> spec, Pageable pageable);
+
+    /**
+     * Planner's row estimate for the employee listing filters, or -1 when the table was never analyzed.
+     * Mirrors the predicates of EmployeeServiceImpl.buildSpecification.
+     */
+    long estimateCount(String search, Long departmentId);
+
+    /**
+     * Counts by status, department and job title over the listing filters, in one GROUPING SETS query.
+     * Rows come ordered by facet, then by count descending.
+     */
+    List<FacetRow> facetCounts(String search, Long departmentId);
+
+    /**
+     * @param facet "status", "department" or "jobTitle"
+     * @param value the grouped value (the department id for "department"); null for rows without one
+     * @param label display text - the department name, otherwise the value itself
+     */
+    record FacetRow(String facet, String value, String label, long count) {
+    }
+
+    /**
+     * Sets the given columns (keys of PATCHABLE_COLUMNS), stamps updated_at and bumps version in
+     * one UPDATE, provided the row still has {@code expectedVersion}. Empty when the employee
+     * does not exist or has another version.
+     */
+    Optional<PatchedEmployee> patch(Long id, long expectedVersion, Map<String, Object> changes, LocalDateTime updatedAt);
+
+    /**
+     * Patchable attributes and their columns
+     */
+    Map<String, String> PATCHABLE_COLUMNS = Map.of(
+            "name", "name", "email", "email", "employeeId", "employee_id", "status", "status",
+            "phoneNumber", "phone_number", "address", "address", "hireDate", "hire_date",
+            "salary", "salary", "jobTitle", "job_title", "departmentId", "department_id");
+
+    /**
+     * The employee as it was before and after a patch
+     */
+    record PatchedEmployee(EmployeeResponseDto before, EmployeeResponseDto after) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of EmployeeRepositoryCustom, picked up by Spring Data through the Impl suffix
+ */
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+    private static final EmployeeRowMapper BEFORE = new EmployeeRowMapper("before_", false);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Employee> findSlice(Specification<Employee> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Employee> typedQuery = entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH, entityManager.getEntityGraph("Employee.withDepartment"));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<Employee> rows = typedQuery.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long estimateCount(String search, Long departmentId) {
+        List<Object> parameters = new ArrayList<>();
+        String where = listingFilter(search, departmentId, parameters);
+
+        // No filters: the table statistics are enough, no planning needed
+        String sql = where.isEmpty()
+                ? "SELECT reltuples::bigint FROM pg_class WHERE oid = 'employees'::regclass"
+                : "EXPLAIN SELECT 1 FROM employees e WHERE true" + where;
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (!rs.next()) {
+                        return -1L;
+                    }
+                    if (where.isEmpty()) {
+                        return rs.getLong(1);
+                    }
+                    // First line is the top plan node: "Seq Scan on employees e  (cost=0.00..1.23 rows=42 width=4)"
+                    Matcher matcher = PLAN_ROWS.matcher(rs.getString(1));
+                    return matcher.find() ? Long.parseLong(matcher.group(1)) : -1L;
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<FacetRow> facetCounts(String search, Long departmentId) {
+        List<Object> parameters = new ArrayList<>();
+        String where = listingFilter(search, departmentId, parameters);
+        // One pass over the filtered rows; GROUPING() tells which set a result row belongs to
+        String sql = "SELECT CASE WHEN GROUPING(e.status) = 0 THEN 'status' "
+                + "WHEN GROUPING(e.department_id) = 0 THEN 'department' ELSE 'jobTitle' END, "
+                + "CASE WHEN GROUPING(e.status) = 0 THEN e.status "
+                + "WHEN GROUPING(e.department_id) = 0 THEN CAST(e.department_id AS varchar) ELSE e.job_title END, "
+                + "CASE WHEN GROUPING(e.department_id) = 0 THEN d.name "
+                + "WHEN GROUPING(e.status) = 0 THEN e.status ELSE e.job_title END, "
+                + "COUNT(*) "
+                + "FROM employees e LEFT JOIN departments d ON d.id = e.department_id "
+                + "WHERE true" + where + " "
+                + "GROUP BY GROUPING SETS ((e.status), (e.department_id, d.name), (e.job_title)) "
+                + "ORDER BY 1, 4 DESC, 2";
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                List<FacetRow> rows = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(new FacetRow(rs.getString(1), rs.getString(2), rs.getString(3), rs.getLong(4)));
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    @Override
+    public Optional<PatchedEmployee> patch(Long id, long expectedVersion, Map<String, Object> changes,
+                                           LocalDateTime updatedAt) {
+        StringBuilder set = new StringBuilder();
+        List<Object> parameters = new ArrayList<>();
+        changes.forEach((attribute, value) -> {
+            String column = PATCHABLE_COLUMNS.get(attribute);
+            if (column == null) {
+                throw new IllegalArgumentException("Not a patchable employee attribute: " + attribute);
+            }
+            set.append(column).append(" = ?, ");
+            parameters.add(value);
+        });
+        parameters.add(updatedAt);
+        parameters.add(id);
+        parameters.add(expectedVersion);
+
+        // The locked self-join exposes the pre-update row, so one statement yields both versions
+        StringJoiner returning = new StringJoiner(", ");
+        for (String column : EmployeeRowMapper.COLUMNS.split(", ")) {
+            returning.add("old." + column + " AS before_" + column);
+            returning.add("e." + column);
+        }
+        String sql = "WITH changed AS (UPDATE employees e SET " + set
+                + "updated_at = ?, version = e.version + 1 "
+                + "FROM (SELECT * FROM employees WHERE id = ? FOR UPDATE) old "
+                + "WHERE e.id = old.id AND e.version = ? RETURNING " + returning + ") "
+                + "SELECT c.*, bd.name AS before_department_name, d.name AS department_name FROM changed c "
+                + "LEFT JOIN departments bd ON bd.id = c.before_department_id "
+                + "LEFT JOIN departments d ON d.id = c.department_id";
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (!rs.next()) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(new PatchedEmployee(BEFORE.mapRow(rs, 0), EmployeeRowMapper.EMPLOYEE.mapRow(rs, 0)));
+                }
+            }
+        });
+    }
+
+    /**
+     * SQL version of EmployeeServiceImpl.buildSpecification: " AND ..." conditions on alias e,
+     * with their bind values appended to {@code parameters}
+     */
+    static String listingFilter(String search, Long departmentId, List<Object> parameters) {
+        StringBuilder where = new StringBuilder();
+        if (search != null && !search.isEmpty()) {
+            String pattern = "%" + search.toLowerCase() + "%";
+            where.append(" AND (lower(e.name) LIKE ? OR lower(e.email) LIKE ? OR lower(e.employee_id) LIKE ?)");
+            parameters.add(pattern);
+            parameters.add(pattern);
+            parameters.add(pattern);
+        }
+        if (departmentId != null) {
+            where.append(" AND e.department_id = ?");
+            parameters.add(departmentId);
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Maps an employees (or employees_archive) row joined with its department name, as
+ * department_name, to the response DTO. Columns may carry a prefix, e.g. "before_" when
+ * one result row holds two versions of an employee.
+ */
+final class EmployeeRowMapper implements RowMapper<EmployeeResponseDto> {
+
+    static final String COLUMNS = "id, name, email, employee_id, status, phone_number, address, hire_date, "
+            + "salary, job_title, department_id, created_at, updated_at, version";
+
+    static final EmployeeRowMapper EMPLOYEE = new EmployeeRowMapper("", false);
+    static final EmployeeRowMapper WITH_ARCHIVED_AT = new EmployeeRowMapper("", true);
+
+    private final String prefix;
+    private final boolean archivedAt;
+
+    EmployeeRowMapper(String prefix, boolean archivedAt) {
+        this.prefix = prefix;
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public EmployeeResponseDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return EmployeeResponseDto.builder()
+                .id(rs.getLong(prefix + "id"))
+                .name(rs.getString(prefix + "name"))
+                .email(rs.getString(prefix + "email"))
+                .employeeId(rs.getString(prefix + "employee_id"))
+                .status(rs.getString(prefix + "status"))
+                .phoneNumber(rs.getString(prefix + "phone_number"))
+                .address(rs.getString(prefix + "address"))
+                .hireDate(rs.getObject(prefix + "hire_date", LocalDate.class))
+                .salary(rs.getBigDecimal(prefix + "salary"))
+                .jobTitle(rs.getString(prefix + "job_title"))
+                .departmentId(rs.getObject(prefix + "department_id", Long.class))
+                .departmentName(rs.getString(prefix + "department_name"))
+                .createdAt(rs.getObject(prefix + "created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject(prefix + "updated_at", LocalDateTime.class))
+                .version(rs.getObject(prefix + "version", Long.class))
+                .archivedAt(archivedAt ? rs.getObject(prefix + "archived_at", LocalDateTime.class) : null)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Next batch after a consumer offset - primary key range scan
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT MAX(o.id) FROM OutboxEvent o")
+    Long findMaxId();
+
+    @Query("SELECT MIN(o.id) FROM OutboxEvent o")
+    Long findMinId();
+
+    /**
+     * Serialises outbox writers until their transaction ends, so ids become visible in
+     * commit order and a consumer that has seen offset N never misses a row below N
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer lockForWrite(@Param("key") long key);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,122 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dto.response.DepartmentHeadcountReportDto;
+import com.pradeep.ems.dto.response.DepartmentSalaryReportDto;
+import com.pradeep.ems.dto.response.DepartmentStatusReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Departmental report queries, aggregated in Postgres with GROUP BY and window functions.
+ *
+ * Each report reads one of two aggregates, either computed live from employees or read
+ * from its materialized view (report_department_stats / report_department_status):
+ * - department stats: headcount, active headcount and salary sum/avg/min/max/percentiles
+ * - department status: headcount per (department, status)
+ * The window functions (ranks, shares) run on top of the aggregate, so they work the
+ * same over both sources. Plain JDBC because JPQL has neither percentiles nor windows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportRepository {
+
+    public static final String STATS_VIEW = "report_department_stats";
+    public static final String STATUS_VIEW = "report_department_status";
+
+    private static final String DEPARTMENT_STATS =
+            "SELECT d.id AS department_id, d.name AS department_name, "
+            + "COUNT(e.id) AS headcount, "
+            + "COUNT(e.id) FILTER (WHERE e.status = 'ACTIVE') AS active_headcount, "
+            + "COALESCE(SUM(e.salary), 0) AS salary_sum, "
+            + "AVG(e.salary) AS salary_avg, MIN(e.salary) AS salary_min, MAX(e.salary) AS salary_max, "
+            + "percentile_cont(0.5) WITHIN GROUP (ORDER BY e.salary) AS salary_p50, "
+            + "percentile_cont(0.9) WITHIN GROUP (ORDER BY e.salary) AS salary_p90, "
+            + "percentile_cont(0.99) WITHIN GROUP (ORDER BY e.salary) AS salary_p99 "
+            + "FROM departments d LEFT JOIN employees e ON e.department_id = d.id "
+            + "GROUP BY d.id, d.name";
+
+    private static final String DEPARTMENT_STATUS =
+            "SELECT d.id AS department_id, d.name AS department_name, "
+            + "COALESCE(e.status, 'UNKNOWN') AS status, COUNT(*) AS headcount "
+            + "FROM employees e JOIN departments d ON d.id = e.department_id "
+            + "GROUP BY d.id, d.name, COALESCE(e.status, 'UNKNOWN')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<DepartmentSalaryReportDto> salaryByDepartment(boolean fromView) {
+        String sql = "WITH stats AS (" + statsSource(fromView) + ") "
+                + "SELECT *, "
+                + "RANK() OVER (ORDER BY salary_avg DESC NULLS LAST) AS rank_by_average, "
+                + "CAST(100.0 * salary_sum / NULLIF(SUM(salary_sum) OVER (), 0) AS float8) AS payroll_share "
+                + "FROM stats ORDER BY rank_by_average, department_id";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> DepartmentSalaryReportDto.builder()
+                .departmentId(rs.getLong("department_id"))
+                .departmentName(rs.getString("department_name"))
+                .headcount(rs.getLong("headcount"))
+                .totalSalary(rs.getBigDecimal("salary_sum"))
+                .averageSalary(rs.getBigDecimal("salary_avg"))
+                .minSalary(rs.getBigDecimal("salary_min"))
+                .maxSalary(rs.getBigDecimal("salary_max"))
+                .medianSalary(rs.getObject("salary_p50", Double.class))
+                .p90Salary(rs.getObject("salary_p90", Double.class))
+                .p99Salary(rs.getObject("salary_p99", Double.class))
+                .payrollSharePercent(rs.getObject("payroll_share", Double.class))
+                .rankByAverageSalary(rs.getInt("rank_by_average"))
+                .build());
+    }
+
+    public List<DepartmentHeadcountReportDto> headcountByDepartment(boolean fromView) {
+        String sql = "WITH stats AS (" + statsSource(fromView) + ") "
+                + "SELECT department_id, department_name, headcount, active_headcount, "
+                + "RANK() OVER (ORDER BY headcount DESC) AS rank_by_headcount, "
+                + "CAST(100.0 * headcount / NULLIF(SUM(headcount) OVER (), 0) AS float8) AS company_share "
+                + "FROM stats ORDER BY rank_by_headcount, department_id";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> DepartmentHeadcountReportDto.builder()
+                .departmentId(rs.getLong("department_id"))
+                .departmentName(rs.getString("department_name"))
+                .headcount(rs.getLong("headcount"))
+                .activeHeadcount(rs.getLong("active_headcount"))
+                .companySharePercent(rs.getObject("company_share", Double.class))
+                .rankByHeadcount(rs.getInt("rank_by_headcount"))
+                .build());
+    }
+
+    public List<DepartmentStatusReportDto> statusByDepartment(boolean fromView) {
+        String sql = "WITH status AS (" + (fromView ? "SELECT * FROM " + STATUS_VIEW : DEPARTMENT_STATUS) + ") "
+                + "SELECT *, "
+                + "CAST(100.0 * headcount / SUM(headcount) OVER (PARTITION BY department_id) AS float8) AS department_share "
+                + "FROM status ORDER BY department_id, headcount DESC";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> DepartmentStatusReportDto.builder()
+                .departmentId(rs.getLong("department_id"))
+                .departmentName(rs.getString("department_name"))
+                .status(rs.getString("status"))
+                .headcount(rs.getLong("headcount"))
+                .departmentSharePercent(rs.getDouble("department_share"))
+                .build());
+    }
+
+    /**
+     * Creates both views (populated) if missing, with the unique indexes REFRESH ... CONCURRENTLY requires
+     */
+    public void createViews() {
+        jdbcTemplate.execute("CREATE MATERIALIZED VIEW IF NOT EXISTS " + STATS_VIEW + " AS " + DEPARTMENT_STATS);
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS ux_" + STATS_VIEW + " ON " + STATS_VIEW + " (department_id)");
+        jdbcTemplate.execute("CREATE MATERIALIZED VIEW IF NOT EXISTS " + STATUS_VIEW + " AS " + DEPARTMENT_STATUS);
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS ux_" + STATUS_VIEW + " ON " + STATUS_VIEW + " (department_id, status)");
+    }
+
+    /**
+     * Recomputes both views without blocking readers, who keep seeing the previous contents meanwhile
+     */
+    public void refreshViews() {
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + STATS_VIEW);
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + STATUS_VIEW);
+    }
+
+    private static String statsSource(boolean fromView) {
+        return fromView ? "SELECT * FROM " + STATS_VIEW : DEPARTMENT_STATS;
+    }
+}
@@ -0,0 +1,176 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dto.response.TimeBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hiring time-series counts per (bucket, metric), either computed live from employees and
+ * employees_archive (so archival does not rewrite history) or read from report_timeseries_rollup, which holds closed buckets per department
+ * (department_id 0 for employees without one).
+ *
+ * report_timeseries_state records, per bucket width, up to which date the rollup is complete;
+ * report_timeseries_dirty holds closed buckets a committed change has made stale. The tables
+ * are created by schema.sql. Ranges are [from, to), with a null from meaning unbounded.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimeSeriesRepository {
+
+    public static final String ROLLUP_TABLE = "report_timeseries_rollup";
+    public static final String STATE_TABLE = "report_timeseries_state";
+    public static final String DIRTY_TABLE = "report_timeseries_dirty";
+
+    private static final RowMapper<Count> COUNT = (rs, rowNum) -> new Count(
+            rs.getObject("bucket_start", LocalDate.class), Metric.valueOf(rs.getString("metric")), rs.getLong("headcount"));
+
+    private static final String HISTORY_COLUMNS = "hire_date, created_at, updated_at, status, department_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeArchiveRepository employeeArchiveRepository;
+
+    public enum Metric {
+
+        HIRES("hire_date", "hire_date IS NOT NULL"),      // idx_employee_hire_date
+        CREATED("created_at", "TRUE"),                     // idx_employee_created_at
+        TERMINATIONS("updated_at", "status = 'TERMINATED'");  // idx_employee_status
+
+        private final String column;
+        private final String filter;
+
+        Metric(String column, String filter) {
+            this.column = column;
+            this.filter = filter;
+        }
+    }
+
+    public Map<TimeBucket, LocalDate> closedUntil() {
+        Map<TimeBucket, LocalDate> closedUntil = new EnumMap<>(TimeBucket.class);
+        jdbcTemplate.query("SELECT granularity, closed_until FROM " + STATE_TABLE, rs -> {
+            closedUntil.put(TimeBucket.valueOf(rs.getString(1)), rs.getObject(2, LocalDate.class));
+        });
+        return closedUntil;
+    }
+
+    /**
+     * Recomputes the rollup rows of one metric over [from, to); to must be a bucket start
+     */
+    @Transactional
+    public void rollUp(TimeBucket bucket, Metric metric, LocalDate from, LocalDate to) {
+        List<Object> deleteParams = new ArrayList<>(List.of(bucket.name(), metric.name(), to));
+        jdbcTemplate.update("DELETE FROM " + ROLLUP_TABLE + " WHERE granularity = ? AND metric = ? AND bucket_start < ?"
+                + (from != null ? " AND bucket_start >= ?" : ""), withFrom(deleteParams, from));
+
+        List<Object> params = new ArrayList<>(List.of(bucket.name(), metric.name(), to));
+        jdbcTemplate.update("INSERT INTO " + ROLLUP_TABLE + " (granularity, metric, bucket_start, department_id, headcount) "
+                + "SELECT ?, ?, " + truncate(bucket, metric) + ", COALESCE(department_id, 0), COUNT(*) "
+                + "FROM (" + employeeArchiveRepository.withArchive(HISTORY_COLUMNS) + ") e "
+                + "WHERE " + metric.filter + " AND " + metric.column + " < ?"
+                + (from != null ? " AND " + metric.column + " >= ?" : "")
+                + " GROUP BY 3, 4", withFrom(params, from));
+    }
+
+    @Transactional
+    public void advance(TimeBucket bucket, LocalDate closedUntil) {
+        jdbcTemplate.update("INSERT INTO " + STATE_TABLE + " (granularity, closed_until, rolled_up_at) VALUES (?, ?, now()) "
+                + "ON CONFLICT (granularity) DO UPDATE SET closed_until = EXCLUDED.closed_until, rolled_up_at = now()",
+                bucket.name(), closedUntil);
+    }
+
+    /**
+     * Records stale buckets; call it in the transaction that makes them stale, so the marks
+     * commit (or roll back) with the change
+     */
+    public void markDirty(Collection<DirtyBucket> buckets) {
+        jdbcTemplate.batchUpdate("INSERT INTO " + DIRTY_TABLE + " (granularity, metric, bucket_start) VALUES (?, ?, ?) "
+                        + "ON CONFLICT DO NOTHING",
+                buckets.stream().map(dirty -> new Object[]{dirty.bucket().name(), dirty.metric().name(), dirty.start()}).toList());
+    }
+
+    public List<DirtyBucket> dirtyBuckets() {
+        return jdbcTemplate.query("SELECT granularity, metric, bucket_start FROM " + DIRTY_TABLE, (rs, rowNum) -> new DirtyBucket(
+                TimeBucket.valueOf(rs.getString(1)), Metric.valueOf(rs.getString(2)), rs.getObject(3, LocalDate.class)));
+    }
+
+    /**
+     * Removes the mark and recomputes its bucket in one transaction. A change marking the same
+     * bucket meanwhile waits for this transaction and leaves a new mark behind, so the next run
+     * picks it up. Returns false if another run already took the mark.
+     */
+    @Transactional
+    public boolean rollUpDirty(DirtyBucket dirty) {
+        if (!clearDirty(dirty)) {
+            return false;
+        }
+        rollUp(dirty.bucket(), dirty.metric(), dirty.start(), dirty.bucket().next(dirty.start()));
+        return true;
+    }
+
+    /**
+     * Drops a mark without recomputing, for buckets that are not rolled up yet
+     */
+    public boolean clearDirty(DirtyBucket dirty) {
+        return jdbcTemplate.update("DELETE FROM " + DIRTY_TABLE + " WHERE granularity = ? AND metric = ? AND bucket_start = ?",
+                dirty.bucket().name(), dirty.metric().name(), dirty.start()) > 0;
+    }
+
+    public List<Count> rolledUp(TimeBucket bucket, Long departmentId, LocalDate from, LocalDate to) {
+        List<Object> params = new ArrayList<>(List.of(bucket.name(), from, to));
+        if (departmentId != null) {
+            params.add(departmentId);
+        }
+        return jdbcTemplate.query("SELECT bucket_start, metric, SUM(headcount) AS headcount FROM " + ROLLUP_TABLE
+                + " WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?"
+                + (departmentId != null ? " AND department_id = ?" : "")
+                + " GROUP BY bucket_start, metric", COUNT, params.toArray());
+    }
+
+    /**
+     * All three metrics aggregated from employees and the archive in one round trip
+     */
+    public List<Count> live(TimeBucket bucket, Long departmentId, LocalDate from, LocalDate to) {
+        String history = employeeArchiveRepository.withArchive(HISTORY_COLUMNS);
+        List<String> selects = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        for (Metric metric : Metric.values()) {
+            selects.add("SELECT " + truncate(bucket, metric) + " AS bucket_start, '" + metric.name() + "' AS metric, "
+                    + "COUNT(*) AS headcount FROM (" + history + ") e WHERE " + metric.filter
+                    + " AND " + metric.column + " >= ? AND " + metric.column + " < ?"
+                    + (departmentId != null ? " AND department_id = ?" : "")
+                    + " GROUP BY 1");
+            params.add(from);
+            params.add(to);
+            if (departmentId != null) {
+                params.add(departmentId);
+            }
+        }
+        return jdbcTemplate.query(String.join(" UNION ALL ", selects), COUNT, params.toArray());
+    }
+
+    private static String truncate(TimeBucket bucket, Metric metric) {
+        return "CAST(date_trunc('" + bucket.unit() + "', " + metric.column + ") AS date)";
+    }
+
+    private static Object[] withFrom(List<Object> params, LocalDate from) {
+        if (from != null) {
+            params.add(from);
+        }
+        return params.toArray();
+    }
+
+    public record Count(LocalDate bucketStart, Metric metric, long count) {
+    }
+
+    public record DirtyBucket(TimeBucket bucket, Metric metric, LocalDate start) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.pradeep.ems.service;
+
+import com.pradeep.ems.analytics.AnalyticsQuery;
+import com.pradeep.ems.dto.response.AnalyticsResultDto;
+
+public interface AnalyticsService {
+
+    AnalyticsResultDto analyzeEmployees(AnalyticsQuery query);
+}
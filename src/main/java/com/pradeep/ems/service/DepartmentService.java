@@ -2,6 +2,7 @@ package com.pradeep.ems.service;
 
 import com.pradeep.ems.dto.request.DepartmentRequestDto;
 import com.pradeep.ems.dto.response.DepartmentResponseDto;
+import com.pradeep.ems.dto.response.SyncResponseDto;
 
 import java.util.List;
 
@@ -17,5 +18,7 @@ public interface DepartmentService {
 
     void deleteDepartment(Long id);
 
+    SyncResponseDto<DepartmentResponseDto> syncDepartments(String since, Integer limit);
+
     //DepartmentResponseDto getDepartmentWithEmployees(Long id);
 }
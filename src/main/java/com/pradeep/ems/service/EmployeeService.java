@@ -1,17 +1,43 @@
 package com.pradeep.ems.service;
 
 import com.pradeep.ems.dto.request.EmployeeRequestDto;
+import com.pradeep.ems.dto.request.PatchEmployeeRequestDto;
 import com.pradeep.ems.dto.request.UpdateEmployeeRequestDto;
+import com.pradeep.ems.dto.response.CountStrategy;
 import com.pradeep.ems.dto.response.EmployeeResponseDto;
-import org.springframework.data.domain.Page;
+import com.pradeep.ems.dto.response.EmployeeSuggestionDto;
+import com.pradeep.ems.dto.response.FacetCountDto;
+import com.pradeep.ems.dto.response.PageResponseDto;
+import com.pradeep.ems.dto.response.SyncResponseDto;
+import com.pradeep.ems.dto.response.TopEarnerDto;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface EmployeeService {
 
-    Page<EmployeeResponseDto> getAllEmployees(Pageable pageable, String search, Long departmentId);
+    /**
+     * @param countStrategy how to compute the total; null for the configured default
+     */
+    PageResponseDto<EmployeeResponseDto> getAllEmployees(Pageable pageable, String search, Long departmentId,
+                                                         CountStrategy countStrategy);
 
+    /**
+     * The same listing over current and archived employees. Only EXACT counts are supported;
+     * any other strategy reports no total (NONE).
+     */
+    PageResponseDto<EmployeeResponseDto> getAllEmployeesIncludingArchived(Pageable pageable, String search,
+                                                                          Long departmentId, CountStrategy countStrategy);
+
+    /**
+     * Counts by "status", "department" and "jobTitle" over the same filter as getAllEmployees
+     */
+    Map<String, List<FacetCountDto>> getEmployeeFacets(String search, Long departmentId);
+
+    /**
+     * Falls back to the archive for employees no longer in the employees table
+     */
     EmployeeResponseDto getEmployeeById(Long id);
 
     EmployeeResponseDto createEmployee(EmployeeRequestDto requestDto);
@@ -24,5 +50,35 @@ public interface EmployeeService {
 
     List<EmployeeResponseDto> searchEmployees(String query);
 
+    /**
+     * Prefix matches on name words, email and employee ID for type-as-you-go pickers
+     *
+     * @param limit maximum number of matches; null for the configured default
+     */
+    List<EmployeeSuggestionDto> autocompleteEmployees(String prefix, Integer limit);
+
+    /**
+     * Highest-paid active employees, company-wide or within one department
+     *
+     * @param departmentId null for the company-wide leaderboard
+     * @param limit leaderboard length; null for the configured default
+     */
+    List<TopEarnerDto> getTopEarners(Long departmentId, Integer limit);
+
+    /**
+     * Employees changed and deleted after a sync watermark, in change order
+     *
+     * @param since watermark from the previous page; null for an initial full sync
+     * @param limit page size; null for the configured default
+     */
+    SyncResponseDto<EmployeeResponseDto> syncEmployees(String since, Integer limit);
+
     EmployeeResponseDto updateEmployeeStatus(Long id, String status);
+
+    /**
+     * Writes only the supplied fields, provided the employee is still at the requested version
+     *
+     * @throws com.pradeep.ems.exception.ConflictException if the version is stale or a unique field is taken
+     */
+    EmployeeResponseDto patchEmployee(Long id, PatchEmployeeRequestDto requestDto);
 }
@@ -0,0 +1,10 @@
+package com.pradeep.ems.service;
+
+import com.pradeep.ems.dto.response.QueryStatisticsReportDto;
+
+public interface QueryStatisticsService {
+
+    QueryStatisticsReportDto getQueryStatistics(int limit);
+
+    void resetQueryStatistics();
+}
@@ -0,0 +1,28 @@
+package com.pradeep.ems.service;
+
+import com.pradeep.ems.dto.response.DepartmentHeadcountReportDto;
+import com.pradeep.ems.dto.response.DepartmentSalaryReportDto;
+import com.pradeep.ems.dto.response.DepartmentStatusReportDto;
+import com.pradeep.ems.dto.response.ReportResponseDto;
+import com.pradeep.ems.dto.response.TimeBucket;
+import com.pradeep.ems.dto.response.TimeSeriesPointDto;
+
+import java.time.LocalDate;
+
+public interface ReportService {
+
+    ReportResponseDto<DepartmentSalaryReportDto> getDepartmentSalaryReport();
+
+    ReportResponseDto<DepartmentHeadcountReportDto> getDepartmentHeadcountReport();
+
+    ReportResponseDto<DepartmentStatusReportDto> getDepartmentStatusReport();
+
+    /**
+     * Hires, created records and terminations per bucket, zero-filled, over the buckets
+     * containing from..to (default: the last year up to today)
+     *
+     * @param departmentId null for the whole company
+     */
+    ReportResponseDto<TimeSeriesPointDto> getHiringTimeSeries(TimeBucket granularity, Long departmentId,
+                                                              LocalDate from, LocalDate to);
+}
@@ -0,0 +1,35 @@
+package com.pradeep.ems.service.impl;
+
+import com.pradeep.ems.analytics.AnalyticsQuery;
+import com.pradeep.ems.analytics.EmployeeColumnStore;
+import com.pradeep.ems.dto.response.AnalyticsResultDto;
+import com.pradeep.ems.exception.ServiceUnavailableException;
+import com.pradeep.ems.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Analytics Service
+ *
+ * Ad-hoc filter/group-by queries answered from the in-memory EmployeeColumnStore,
+ * so analysts never run full-table aggregations against Postgres.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final EmployeeColumnStore columnStore;
+
+    @Override
+    public AnalyticsResultDto analyzeEmployees(AnalyticsQuery query) {
+        if (!columnStore.isReady()) {
+            throw new ServiceUnavailableException("Analytics snapshot is still loading, retry shortly");
+        }
+        AnalyticsResultDto result = columnStore.query(query);
+        log.debug("Analytics query {} matched {} of {} rows in {} us", query, result.getMatchedEmployees(),
+                result.getScannedRows(), result.getTookMicros());
+        return result;
+    }
+}
@@ -1,19 +1,28 @@
 package com.pradeep.ems.service.impl;
 
+import com.pradeep.ems.datasource.ReadFromPrimary;
 import com.pradeep.ems.dto.request.DepartmentRequestDto;
 import com.pradeep.ems.dto.response.DepartmentResponseDto;
+import com.pradeep.ems.dto.response.SyncResponseDto;
 import com.pradeep.ems.entity.Department;
 import com.pradeep.ems.entity.Employee;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.DepartmentChangedEvent;
 import com.pradeep.ems.repository.DepartmentRepository;
 import com.pradeep.ems.repository.EmployeeRepository;
 import com.pradeep.ems.service.DepartmentService;
+import com.pradeep.ems.sync.SyncTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,16 +31,21 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncTracker syncTracker;
 
     @Override
     @Transactional(readOnly = true)  // Read-only operation - optimizes performance
     public List<DepartmentResponseDto> getAllDepartments() {
-        return departmentRepository.findAll().stream()
-                .map(this::convertToDto)
+        List<Department> departments = departmentRepository.findAll();
+        Map<Long, Long> headCounts = countHeadCounts(departments);
+        return departments.stream()
+                .map(department -> convertToDto(department, headCounts))
                 .collect(Collectors.toList());
     }
 
     @Override
+    @ReadFromPrimary  // Cached for everyone, so never filled from a lagging replica
     @Transactional(readOnly = true)  // Read-only operation - optimizes performance
     @Cacheable(value = "departments", key = "#id")  // Cache result by department ID
     public DepartmentResponseDto getDepartmentById(Long id) {
@@ -52,13 +66,17 @@ public class DepartmentServiceImpl implements DepartmentService {
                 .headCount(0)
                 .build();
 
-        Department saved = departmentRepository.save(department);
-        return convertToDto(saved);
+        DepartmentResponseDto created = convertToDto(departmentRepository.save(department));
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.CREATED, created.getId(), created));
+        return created;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "departments", key = "#id")  // Evict specific department from cache
+    @Caching(evict = {
+            @CacheEvict(value = "departments", key = "#id"),  // Evict specific department from cache
+            @CacheEvict(value = "employees", allEntries = true)  // Employee DTOs carry the department name
+    })
     public DepartmentResponseDto updateDepartment(Long id, DepartmentRequestDto dto) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
@@ -72,8 +90,9 @@ public class DepartmentServiceImpl implements DepartmentService {
         long employeeCount = employeeRepository.countEmployeesByDepartment(id);
         department.setHeadCount((int) employeeCount);
 
-        Department updated = departmentRepository.save(department);
-        return convertToDto(updated);
+        DepartmentResponseDto updated = convertToDto(departmentRepository.save(department));
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.UPDATED, id, updated));
+        return updated;
     }
 
     @Override
@@ -82,7 +101,9 @@ public class DepartmentServiceImpl implements DepartmentService {
     public void deleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
+        DepartmentResponseDto deleted = convertToDto(department);
         departmentRepository.delete(department);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.DELETED, id, deleted));
     }
 
 //    @Override
@@ -111,13 +132,69 @@ public class DepartmentServiceImpl implements DepartmentService {
 //                .build();
 //    }
 
-    private DepartmentResponseDto convertToDto(Department department) {
+    @Override
+    // A replica may lag by more than settle-time, and rows it has not replayed yet would end
+    // up behind the watermark this page hands out
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public SyncResponseDto<DepartmentResponseDto> syncDepartments(String since, Integer limit) {
+        SyncTracker.Batch batch = syncTracker.changesSince(SyncTracker.DEPARTMENTS, since, limit);
+        List<Department> departments = departmentRepository.findAllById(batch.changedIds());
+        Map<Long, Department> byId = departments.stream()
+                .collect(Collectors.toMap(Department::getId, department -> department));
+        Map<Long, Long> headCounts = countHeadCounts(departments);
+        return SyncResponseDto.<DepartmentResponseDto>builder()
+                .changed(batch.changedIds().stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .map(department -> convertToDto(department, headCounts))
+                        .toList())
+                .deleted(batch.deletedIds())
+                .watermark(batch.watermark().toString())
+                .hasMore(batch.hasMore())
+                .resyncRequired(batch.resyncRequired())
+                .build();
+    }
+
+    /**
+     * Employee counts for the departments whose head count is not set, in one grouped query
+     * instead of one COUNT per department. Departments without employees are absent.
+     */
+    private Map<Long, Long> countHeadCounts(List<Department> departments) {
+        List<Long> uncounted = departments.stream()
+                .filter(DepartmentServiceImpl::needsHeadCount)
+                .map(Department::getId)
+                .toList();
+        if (uncounted.isEmpty()) {
+            return Map.of();
+        }
+        return employeeRepository.countEmployeesByDepartments(uncounted).stream()
+                .collect(Collectors.toMap(EmployeeRepository.DepartmentEmployeeCount::getDepartmentId,
+                        EmployeeRepository.DepartmentEmployeeCount::getEmployees));
+    }
+
+    private DepartmentResponseDto convertToDto(Department department, Map<Long, Long> headCounts) {
+        int headCount = needsHeadCount(department)
+                ? headCounts.getOrDefault(department.getId(), 0L).intValue()
+                : department.getHeadCount();
+        return toDto(department, headCount);
+    }
+
+    // Package-private for the JMH benchmarks in src/jmh
+    DepartmentResponseDto convertToDto(Department department) {
         // Calculate head count if not set
         int headCount = department.getHeadCount();
-        if (headCount == 0 && department.getId() != null) {
+        if (needsHeadCount(department)) {
             headCount = employeeRepository.countEmployeesByDepartment(department.getId()).intValue();
         }
-        
+        return toDto(department, headCount);
+    }
+
+    private static boolean needsHeadCount(Department department) {
+        return department.getHeadCount() == 0 && department.getId() != null;
+    }
+
+    private static DepartmentResponseDto toDto(Department department, int headCount) {
         return DepartmentResponseDto.builder()
                 .id(department.getId())
                 .name(department.getName())
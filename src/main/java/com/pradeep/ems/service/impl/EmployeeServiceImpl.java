@@ -1,75 +1,194 @@
 package com.pradeep.ems.service.impl;
 
+import com.pradeep.ems.cache.EmployeeListCache;
+import com.pradeep.ems.datasource.ReadFromPrimary;
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
 import com.pradeep.ems.dto.request.EmployeeRequestDto;
+import com.pradeep.ems.dto.request.PatchEmployeeRequestDto;
 import com.pradeep.ems.dto.request.UpdateEmployeeRequestDto;
+import com.pradeep.ems.dto.response.CountStrategy;
 import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.EmployeeSuggestionDto;
+import com.pradeep.ems.dto.response.FacetCountDto;
+import com.pradeep.ems.dto.response.PageResponseDto;
+import com.pradeep.ems.dto.response.SyncResponseDto;
+import com.pradeep.ems.dto.response.TopEarnerDto;
 import com.pradeep.ems.entity.Department;
 import com.pradeep.ems.entity.Employee;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import com.pradeep.ems.exception.BadRequestException;
+import com.pradeep.ems.exception.ConflictException;
 import com.pradeep.ems.exception.ResourceNotFoundException;
+import com.pradeep.ems.leaderboard.EarnerLeaderboards;
 import com.pradeep.ems.repository.DepartmentRepository;
+import com.pradeep.ems.repository.EmployeeArchiveRepository;
 import com.pradeep.ems.repository.EmployeeRepository;
+import com.pradeep.ems.repository.EmployeeRepositoryCustom.FacetRow;
+import com.pradeep.ems.repository.EmployeeRepositoryCustom.PatchedEmployee;
 import com.pradeep.ems.service.EmployeeService;
+import com.pradeep.ems.sync.SyncTracker;
+import com.pradeep.ems.typeahead.TypeaheadIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final String COUNT_CACHE = "employeeCounts";
+    static final String EMPLOYEE_CACHE = "employees";
+    static final String FACET_CACHE = "employeeFacets";
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
+    private final CacheManager cacheManager;
+    private final EmployeeListCache employeeListCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TypeaheadIndex typeaheadIndex;
+    private final EarnerLeaderboards earnerLeaderboards;
+    private final SyncTracker syncTracker;
+    private final EmployeeArchiveRepository employeeArchiveRepository;
+
+    @Value("${ems.employees.count-strategy:EXACT}")
+    private CountStrategy defaultCountStrategy = CountStrategy.EXACT;
 
     @Override
+    // Cold pages and hydration fill the list and employee caches: a replica could still hold
+    // rows from before the write that bumped the list generation
+    @ReadFromPrimary
     @Transactional(readOnly = true)  // Read-only operation - optimizes performance
-    public Page<EmployeeResponseDto> getAllEmployees(Pageable pageable, String search, Long departmentId) {
-        Specification<Employee> spec = Specification.where(null);
-        
-        // Demonstrate Specifications - dynamic query building
-        if (search != null && !search.isEmpty()) {
-            String searchPattern = "%" + search.toLowerCase() + "%";
-            Specification<Employee> searchSpec = (root, query, cb) -> 
-                cb.or(
-                    cb.like(cb.lower(root.get("name")), searchPattern),
-                    cb.like(cb.lower(root.get("email")), searchPattern),
-                    cb.like(cb.lower(root.get("employeeId")), searchPattern)
-                );
-            spec = spec.and(searchSpec);
+    public PageResponseDto<EmployeeResponseDto> getAllEmployees(Pageable pageable, String search, Long departmentId,
+                                                                CountStrategy countStrategy) {
+        CountStrategy strategy = countStrategy != null ? countStrategy : defaultCountStrategy;
+
+        // Key (and with it the generation) is taken before querying - see EmployeeListCache
+        String listKey = employeeListCache.keyFor(normalizeSearch(search), departmentId, pageable, strategy);
+        EmployeeListCache.CachedPage cached = employeeListCache.get(listKey);
+        if (cached != null) {
+            Slice<EmployeeResponseDto> slice = new SliceImpl<>(hydrate(cached.ids()), pageable, cached.hasNext());
+            return PageResponseDto.of(slice, cached.totalElements(), strategy);
         }
-        
-        if (departmentId != null) {
-            Specification<Employee> deptSpec = (root, query, cb) -> 
-                cb.equal(root.get("department").get("id"), departmentId);
-            spec = spec.and(deptSpec);
+
+        PageResponseDto<EmployeeResponseDto> page = queryPage(pageable, search, departmentId, strategy);
+        if (listKey != null) {
+            Cache employees = cacheManager.getCache(EMPLOYEE_CACHE);
+            List<Long> ids = new ArrayList<>(page.getContent().size());
+            for (EmployeeResponseDto dto : page.getContent()) {
+                ids.add(dto.getId());
+                if (employees != null) {
+                    employees.putIfAbsent(dto.getId(), dto);
+                }
+            }
+            employeeListCache.put(listKey, new EmployeeListCache.CachedPage(ids, page.isHasNext(), page.getTotalElements()));
         }
-        
-        Page<Employee> page = spec == null ? 
-            employeeRepository.findAll(pageable) : 
-            employeeRepository.findAll(spec, pageable);
-        
-        return page.map(this::mapToDto);
+        return page;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<EmployeeResponseDto> getAllEmployeesIncludingArchived(Pageable pageable, String search,
+                                                                                 Long departmentId,
+                                                                                 CountStrategy countStrategy) {
+        CountStrategy strategy = countStrategy != null ? countStrategy : defaultCountStrategy;
+        // Not cached: archive-inclusive searches are rare and the listing cache only tracks employees
+        Slice<EmployeeResponseDto> slice = employeeArchiveRepository.searchIncludingArchive(search, departmentId, pageable);
+        if (strategy != CountStrategy.EXACT) {
+            return PageResponseDto.of(slice, null, CountStrategy.NONE);
+        }
+        return PageResponseDto.of(slice, employeeArchiveRepository.countIncludingArchive(search, departmentId), strategy);
+    }
+
+    private PageResponseDto<EmployeeResponseDto> queryPage(Pageable pageable, String search, Long departmentId,
+                                                           CountStrategy strategy) {
+        Specification<Employee> spec = buildSpecification(search, departmentId);
+
+        if (strategy == CountStrategy.EXACT) {
+            Page<Employee> page = employeeRepository.findAll(spec, pageable);
+            return PageResponseDto.of(page.map(this::mapToDto), page.getTotalElements(), strategy);
+        }
+
+        // Every other strategy fetches pageSize + 1 rows instead of running COUNT(*) next to the page query
+        Slice<Employee> slice = employeeRepository.findSlice(spec, pageable);
+        Long total = switch (strategy) {
+            case CACHED -> cachedCount(spec, search, departmentId);
+            case ESTIMATED -> estimatedCount(slice, spec, search, departmentId);
+            default -> null;
+        };
+        if (total != null && !slice.hasNext()) {
+            // Last page: the exact total is known for free
+            total = slice.getPageable().isPaged() ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                    : slice.getNumberOfElements();
+        }
+        return PageResponseDto.of(slice.map(this::mapToDto), total, strategy);
+    }
+
+    @Override
+    @ReadFromPrimary  // Fills the shared facet cache
+    @Transactional(readOnly = true)  // Read-only operation - optimizes performance
+    public Map<String, List<FacetCountDto>> getEmployeeFacets(String search, Long departmentId) {
+        String key = employeeListCache.filterKey(normalizeSearch(search), departmentId);
+        Cache cache = cacheManager.getCache(FACET_CACHE);
+        if (cache == null) {
+            return loadFacets(search, departmentId);
+        }
+        return cache.get(key, () -> loadFacets(search, departmentId));
+    }
+
+    private Map<String, List<FacetCountDto>> loadFacets(String search, Long departmentId) {
+        Map<String, List<FacetCountDto>> facets = new LinkedHashMap<>();
+        facets.put("status", new ArrayList<>());
+        facets.put("department", new ArrayList<>());
+        facets.put("jobTitle", new ArrayList<>());
+        for (FacetRow row : employeeRepository.facetCounts(search, departmentId)) {
+            facets.get(row.facet()).add(new FacetCountDto(row.value(), row.label(), row.count()));
+        }
+        return facets;
+    }
+
+    @Override
+    @ReadFromPrimary  // A replica read could re-cache a row the last write just evicted
     @Transactional(readOnly = true)  // Read-only operation - optimizes performance
-    @Cacheable(value = "employees", key = "#id")  // Cache result by employee ID
+    @Cacheable(value = EMPLOYEE_CACHE, key = "#id")  // Cache result by employee ID
     public EmployeeResponseDto getEmployeeById(Long id) {
-        Employee emp = employeeRepository.findById(id)
+        return employeeRepository.findById(id)
+                .map(this::mapToDto)
+                .or(() -> employeeArchiveRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-        return mapToDto(emp);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"employees", "departmentEmployees"}, allEntries = true)  // Clear caches
+    @CacheEvict(value = {EMPLOYEE_CACHE, "departmentEmployees", COUNT_CACHE}, allEntries = true)  // Clear caches
     public EmployeeResponseDto createEmployee(EmployeeRequestDto requestDto) {
         Department dept = departmentRepository.findById(requestDto.getDepartmentId())
                 .orElseThrow(() -> new RuntimeException("Department not found"));
@@ -86,15 +205,21 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .department(dept)
                 .build();
         Employee saved = employeeRepository.save(employee);
-        return mapToDto(saved);
+        EmployeeResponseDto created = mapToDto(saved);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(created));
+        return created;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"employees", "departmentEmployees"}, key = "#id")  // Evict specific employee
+    @Caching(evict = {
+            @CacheEvict(value = {EMPLOYEE_CACHE, "departmentEmployees"}, key = "#id"),  // Evict specific employee
+            @CacheEvict(value = COUNT_CACHE, allEntries = true)  // Name or department changes move filtered counts
+    })
     public EmployeeResponseDto updateEmployee(Long id, UpdateEmployeeRequestDto requestDto) {
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
+        EmployeeResponseDto before = mapToDto(emp);
         if (requestDto.getName() != null) emp.setName(requestDto.getName());
         if (requestDto.getEmail() != null) emp.setEmail(requestDto.getEmail());
         if (requestDto.getEmployeeId() != null) emp.setEmployeeId(requestDto.getEmployeeId());
@@ -110,14 +235,24 @@ public class EmployeeServiceImpl implements EmployeeService {
             emp.setDepartment(dept);
         }
         Employee updated = employeeRepository.save(emp);
-        return mapToDto(updated);
+        EmployeeResponseDto after = mapToDto(updated);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, after));
+        return after;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"employees", "departmentEmployees"}, key = "#id")  // Evict deleted employee
+    @Caching(evict = {
+            @CacheEvict(value = {EMPLOYEE_CACHE, "departmentEmployees"}, key = "#id"),  // Evict deleted employee
+            @CacheEvict(value = COUNT_CACHE, allEntries = true)
+    })
     public void deleteEmployee(Long id) {
-        employeeRepository.deleteById(id);
+        // Same semantics as deleteById (a missing id is a no-op), but the deleted state is needed for the event
+        employeeRepository.findById(id).ifPresent(emp -> {
+            EmployeeResponseDto before = mapToDto(emp);
+            employeeRepository.delete(emp);
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(before));
+        });
     }
 
     @Override
@@ -131,6 +266,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional(readOnly = true)  // Read-only operation - optimizes performance
+    @Workload(WorkloadType.REPORTING)  // Unpaged three-column LIKE scan - keep it off the interactive pool
     public List<EmployeeResponseDto> searchEmployees(String query) {
         // Use Specifications for dynamic search - demonstrates JPA Specifications
         Specification<Employee> spec = (root, queryBuilder, cb) -> {
@@ -147,21 +283,221 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    // No @Transactional: the index path never touches the database
+    public List<EmployeeSuggestionDto> autocompleteEmployees(String prefix, Integer limit) {
+        int resolvedLimit = typeaheadIndex.resolveLimit(limit);
+        if (typeaheadIndex.isReady()) {
+            return typeaheadIndex.suggest(prefix, resolvedLimit);
+        }
+        // Index still building or disabled: starts-with on the three columns, first page only
+        String pattern = prefix.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        Specification<Employee> spec = (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern, '\\'),
+                cb.like(cb.lower(root.get("email")), pattern, '\\'),
+                cb.like(cb.lower(root.get("employeeId")), pattern, '\\')
+        );
+        return employeeRepository.findSlice(spec, PageRequest.of(0, resolvedLimit, Sort.by("name")))
+                .map(employee -> EmployeeSuggestionDto.builder()
+                        .id(employee.getId())
+                        .name(employee.getName())
+                        .email(employee.getEmail())
+                        .employeeId(employee.getEmployeeId())
+                        .build())
+                .getContent();
+    }
+
+    @Override
+    public List<TopEarnerDto> getTopEarners(Long departmentId, Integer limit) {
+        if (departmentId != null && !departmentRepository.existsById(departmentId)) {
+            throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+        }
+        return earnerLeaderboards.top(departmentId, earnerLeaderboards.resolveLimit(limit));
+    }
+
+    @Override
+    // A replica may lag by more than settle-time, and rows it has not replayed yet would end
+    // up behind the watermark this page hands out
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public SyncResponseDto<EmployeeResponseDto> syncEmployees(String since, Integer limit) {
+        SyncTracker.Batch batch = syncTracker.changesSince(SyncTracker.EMPLOYEES, since, limit);
+        Map<Long, EmployeeResponseDto> byId = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllWithDepartmentByIdIn(batch.changedIds())) {
+            byId.put(employee.getId(), mapToDto(employee));
+        }
+        return SyncResponseDto.<EmployeeResponseDto>builder()
+                .changed(batch.changedIds().stream().map(byId::get).filter(Objects::nonNull).toList())
+                .deleted(batch.deletedIds())
+                .watermark(batch.watermark().toString())
+                .hasMore(batch.hasMore())
+                .resyncRequired(batch.resyncRequired())
+                .build();
+    }
+
     @Override
     @Transactional  // Transaction boundary at service layer (best practice)
+    @CacheEvict(value = {EMPLOYEE_CACHE, "departmentEmployees"}, key = "#id")  // Cached DTO carries the status
     public EmployeeResponseDto updateEmployeeStatus(Long id, String status) {
+        Employee current = employeeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Employee not found"));
+        EmployeeResponseDto before = mapToDto(current);
         // Demonstrate modifying query - updates database directly without loading entity
-        // Both repository calls are in the same transaction
-        int updated = employeeRepository.updateEmployeeStatus(id, status);
+        // Both repository calls are in the same transaction; the bulk update clears the
+        // persistence context, so the second findById reads the new row
+        int updated = employeeRepository.updateEmployeeStatus(id, status, LocalDateTime.now());
         if (updated == 0) {
             throw new RuntimeException("Employee not found");
         }
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
-        return mapToDto(emp);
+        EmployeeResponseDto after = mapToDto(emp);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, after));
+        return after;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = {EMPLOYEE_CACHE, "departmentEmployees"}, key = "#id"),
+            @CacheEvict(value = COUNT_CACHE, allEntries = true)
+    })
+    public EmployeeResponseDto patchEmployee(Long id, PatchEmployeeRequestDto requestDto) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "name", requestDto.getName());
+        putIfPresent(changes, "email", requestDto.getEmail());
+        putIfPresent(changes, "employeeId", requestDto.getEmployeeId());
+        putIfPresent(changes, "status", requestDto.getStatus());
+        putIfPresent(changes, "phoneNumber", requestDto.getPhoneNumber());
+        putIfPresent(changes, "address", requestDto.getAddress());
+        putIfPresent(changes, "hireDate", requestDto.getHireDate());
+        putIfPresent(changes, "salary", requestDto.getSalary());
+        putIfPresent(changes, "jobTitle", requestDto.getJobTitle());
+        putIfPresent(changes, "departmentId", requestDto.getDepartmentId());
+        if (changes.isEmpty()) {
+            throw new BadRequestException("No fields to update");
+        }
+        if (requestDto.getDepartmentId() != null && !departmentRepository.existsById(requestDto.getDepartmentId())) {
+            throw new ResourceNotFoundException("Department not found with id: " + requestDto.getDepartmentId());
+        }
+
+        PatchedEmployee patched;
+        try {
+            // No entity is loaded: one UPDATE ... RETURNING does the version check, the write and the read-back
+            patched = employeeRepository.patch(id, requestDto.getVersion(), changes, LocalDateTime.now())
+                    .orElseThrow(() -> staleOrMissing(id, requestDto.getVersion()));
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new ConflictException("Email or employee ID is already in use");
+            }
+            // Values the columns reject (too long, unknown department): the request is at fault
+            log.warn("Patch of employee {} rejected by the database: {}", id, e.getMostSpecificCause().getMessage());
+            throw new BadRequestException("Invalid employee data");
+        }
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(patched.before(), patched.after()));
+        return patched.after();
+    }
+
+    private RuntimeException staleOrMissing(Long id, long expectedVersion) {
+        return employeeRepository.findVersionById(id)
+                .<RuntimeException>map(current -> new ConflictException("Employee " + id + " was modified concurrently: "
+                        + "expected version " + expectedVersion + " but it is at version " + current, getEmployeeById(id)))
+                .orElseGet(() -> new ResourceNotFoundException("Employee not found"));
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String attribute, Object value) {
+        if (value != null) {
+            changes.put(attribute, value);
+        }
+    }
+
+    private Long cachedCount(Specification<Employee> spec, String search, Long departmentId) {
+        Cache cache = cacheManager.getCache(COUNT_CACHE);
+        if (cache == null) {
+            return employeeRepository.count(spec);
+        }
+        String key = "search=" + normalizeSearch(search) + "|department=" + departmentId;
+        return cache.get(key, () -> employeeRepository.count(spec));
+    }
+
+    /**
+     * Employees for cached ids in the given order: from the employees cache where possible,
+     * the rest in one fetch-join query. Ids deleted since the page was cached are dropped.
+     */
+    private List<EmployeeResponseDto> hydrate(List<Long> ids) {
+        Cache employees = cacheManager.getCache(EMPLOYEE_CACHE);
+        Map<Long, EmployeeResponseDto> byId = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            EmployeeResponseDto dto = employees != null ? employees.get(id, EmployeeResponseDto.class) : null;
+            if (dto != null) {
+                byId.put(id, dto);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Employee employee : employeeRepository.findAllWithDepartmentByIdIn(missing)) {
+                EmployeeResponseDto dto = mapToDto(employee);
+                byId.put(employee.getId(), dto);
+                if (employees != null) {
+                    employees.putIfAbsent(employee.getId(), dto);
+                }
+            }
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private Long estimatedCount(Slice<Employee> slice, Specification<Employee> spec, String search, Long departmentId) {
+        long estimate = employeeRepository.estimateCount(search, departmentId);
+        if (estimate < 0) {
+            // Never analyzed - no statistics to estimate from
+            return employeeRepository.count(spec);
+        }
+        // The estimate can't be lower than what this page has already proven to exist
+        long seen = slice.getPageable().isPaged() ? slice.getPageable().getOffset() + slice.getNumberOfElements() + 1 : 0;
+        return Math.max(estimate, seen);
+    }
+
+    // Same lower-casing buildSpecification applies, so equal keys mean equal results
+    static String normalizeSearch(String search) {
+        return search == null ? "" : search.toLowerCase();
+    }
+
+    // Demonstrate Specifications - dynamic query building
+    static Specification<Employee> buildSpecification(String search, Long departmentId) {
+        Specification<Employee> spec = Specification.where(null);
+
+        if (search != null && !search.isEmpty()) {
+            String searchPattern = "%" + search.toLowerCase() + "%";
+            Specification<Employee> searchSpec = (root, query, cb) -> 
+                cb.or(
+                    cb.like(cb.lower(root.get("name")), searchPattern),
+                    cb.like(cb.lower(root.get("email")), searchPattern),
+                    cb.like(cb.lower(root.get("employeeId")), searchPattern)
+                );
+            spec = spec.and(searchSpec);
+        }
+        
+        if (departmentId != null) {
+            Specification<Employee> deptSpec = (root, query, cb) -> 
+                cb.equal(root.get("department").get("id"), departmentId);
+            spec = spec.and(deptSpec);
+        }
+        return spec;
     }
 
-    private EmployeeResponseDto mapToDto(Employee employee) {
+    // Package-private for the JMH benchmarks in src/jmh
+    EmployeeResponseDto mapToDto(Employee employee) {
         return EmployeeResponseDto.builder()
                 .id(employee.getId())
                 .name(employee.getName())
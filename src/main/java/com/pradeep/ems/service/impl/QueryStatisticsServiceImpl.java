@@ -0,0 +1,89 @@
+package com.pradeep.ems.service.impl;
+
+import com.pradeep.ems.dto.response.QueryStatisticsDto;
+import com.pradeep.ems.dto.response.QueryStatisticsReportDto;
+import com.pradeep.ems.service.QueryStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads Hibernate's in-memory Statistics (hibernate.generate_statistics=true).
+ * Each HQL/JPQL/native statement is tracked under its query string since startup or the last reset.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QueryStatisticsServiceImpl implements QueryStatisticsService {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public QueryStatisticsReportDto getQueryStatistics(int requestedLimit) {
+        int limit = Math.max(1, Math.min(requestedLimit, MAX_LIMIT));
+        Statistics statistics = statistics();
+        List<QueryStatisticsDto> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> toDto(query, statistics.getQueryStatistics(query)))
+                .collect(Collectors.toList());
+
+        long cacheHits = statistics.getSecondLevelCacheHitCount();
+        long cacheLookups = cacheHits + statistics.getSecondLevelCacheMissCount();
+
+        return QueryStatisticsReportDto.builder()
+                .collectingSince(statistics.getStart())
+                .queryExecutionCount(statistics.getQueryExecutionCount())
+                .slowestQuery(statistics.getQueryExecutionMaxTimeQueryString())
+                .slowestQueryTimeMs(statistics.getQueryExecutionMaxTime())
+                .entityLoadCount(statistics.getEntityLoadCount())
+                .entityFetchCount(statistics.getEntityFetchCount())
+                .flushCount(statistics.getFlushCount())
+                .prepareStatementCount(statistics.getPrepareStatementCount())
+                .secondLevelCacheHitRatio(cacheLookups == 0 ? 0 : (double) cacheHits / cacheLookups)
+                .slowest(top(queries, Comparator.comparingLong(QueryStatisticsDto::getMaxTimeMs), limit))
+                .mostFrequent(top(queries, Comparator.comparingLong(QueryStatisticsDto::getExecutionCount), limit))
+                .build();
+    }
+
+    @Override
+    public void resetQueryStatistics() {
+        statistics().clear();
+        log.info("Hibernate statistics reset");
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static List<QueryStatisticsDto> top(List<QueryStatisticsDto> queries,
+                                                Comparator<QueryStatisticsDto> order, int limit) {
+        return queries.stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static QueryStatisticsDto toDto(String query, QueryStatistics stats) {
+        return QueryStatisticsDto.builder()
+                .query(query)
+                .executionCount(stats.getExecutionCount())
+                .rowCount(stats.getExecutionRowCount())
+                .totalTimeMs(stats.getExecutionTotalTime())
+                .avgTimeMs(stats.getExecutionAvgTime())
+                .maxTimeMs(stats.getExecutionMaxTime())
+                .minTimeMs(stats.getExecutionCount() == 0 ? 0 : stats.getExecutionMinTime())
+                .cacheHitCount(stats.getCacheHitCount())
+                .cacheMissCount(stats.getCacheMissCount())
+                .build();
+    }
+}
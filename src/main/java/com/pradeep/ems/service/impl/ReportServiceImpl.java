@@ -0,0 +1,274 @@
+package com.pradeep.ems.service.impl;
+
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import com.pradeep.ems.dto.response.DepartmentHeadcountReportDto;
+import com.pradeep.ems.dto.response.DepartmentSalaryReportDto;
+import com.pradeep.ems.dto.response.DepartmentStatusReportDto;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.ReportResponseDto;
+import com.pradeep.ems.dto.response.TimeBucket;
+import com.pradeep.ems.dto.response.TimeSeriesPointDto;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import com.pradeep.ems.exception.BadRequestException;
+import com.pradeep.ems.repository.ReportRepository;
+import com.pradeep.ems.repository.TimeSeriesRepository;
+import com.pradeep.ems.repository.TimeSeriesRepository.DirtyBucket;
+import com.pradeep.ems.repository.TimeSeriesRepository.Metric;
+import com.pradeep.ems.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Report Service
+ *
+ * With ems.reports.materialized-views.enabled the reports read the materialized views,
+ * which a background job refreshes concurrently every ems.reports.refresh-interval-ms, so
+ * report traffic never aggregates employees on demand. Until the first refresh finishes
+ * (or with the views disabled) reports are aggregated live on the REPORTING pool.
+ *
+ * The hiring time series works the same way with ems.reports.timeseries.rollups.enabled:
+ * closed buckets are rolled up incrementally (each run only adds the buckets closed since
+ * the last one), and only the current bucket is aggregated live. A change that moves an
+ * employee between closed buckets (a back-dated hire, a termination) marks them dirty in
+ * report_timeseries_dirty within its own transaction, so the marks survive a restart, and
+ * the next run recomputes just those buckets.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportServiceImpl implements ReportService {
+
+    private final ReportRepository reportRepository;
+    private final TimeSeriesRepository timeSeriesRepository;
+
+    @Value("${ems.reports.materialized-views.enabled:false}")
+    private boolean materializedViews;
+
+    @Value("${ems.reports.timeseries.rollups.enabled:false}")
+    private boolean timeSeriesRollups;
+
+    private volatile LocalDateTime viewsRefreshedAt;  // null until the views are usable
+
+    // Per bucket width: rollups cover every bucket before this date; absent until the first run
+    private final Map<TimeBucket, LocalDate> rolledUpUntil = new ConcurrentHashMap<>();
+    private volatile LocalDateTime rollupsRefreshedAt;
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public ReportResponseDto<DepartmentSalaryReportDto> getDepartmentSalaryReport() {
+        LocalDateTime asOf = viewsRefreshedAt;
+        return report(reportRepository.salaryByDepartment(asOf != null), asOf);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public ReportResponseDto<DepartmentHeadcountReportDto> getDepartmentHeadcountReport() {
+        LocalDateTime asOf = viewsRefreshedAt;
+        return report(reportRepository.headcountByDepartment(asOf != null), asOf);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public ReportResponseDto<DepartmentStatusReportDto> getDepartmentStatusReport() {
+        LocalDateTime asOf = viewsRefreshedAt;
+        return report(reportRepository.statusByDepartment(asOf != null), asOf);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public ReportResponseDto<TimeSeriesPointDto> getHiringTimeSeries(TimeBucket granularity, Long departmentId,
+                                                                     LocalDate from, LocalDate to) {
+        TimeBucket bucket = granularity != null ? granularity : TimeBucket.MONTH;
+        LocalDate end = bucket.next(bucket.start(to != null ? to : LocalDate.now()));
+        LocalDate start = bucket.start(from != null ? from : end.minusYears(1));
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("from must not be after to");
+        }
+
+        // Closed buckets from the rollup, the rest (normally just the current bucket) live
+        List<TimeSeriesRepository.Count> counts = new ArrayList<>();
+        LocalDate liveFrom = start;
+        boolean fromRollup = false;
+        LocalDate rolledUp = timeSeriesRollups ? rolledUpUntil.get(bucket) : null;
+        LocalDateTime asOf = rollupsRefreshedAt;
+        if (rolledUp != null && rolledUp.isAfter(start)) {
+            liveFrom = rolledUp.isBefore(end) ? rolledUp : end;
+            fromRollup = true;
+            counts.addAll(timeSeriesRepository.rolledUp(bucket, departmentId, start, liveFrom));
+        }
+        if (liveFrom.isBefore(end)) {
+            counts.addAll(timeSeriesRepository.live(bucket, departmentId, liveFrom, end));
+        }
+
+        Map<LocalDate, TimeSeriesPointDto> points = new TreeMap<>();
+        for (LocalDate bucketStart = start; bucketStart.isBefore(end); bucketStart = bucket.next(bucketStart)) {
+            points.put(bucketStart, TimeSeriesPointDto.builder().bucketStart(bucketStart).build());
+        }
+        for (TimeSeriesRepository.Count count : counts) {
+            TimeSeriesPointDto point = points.get(count.bucketStart());
+            if (point != null) {
+                switch (count.metric()) {
+                    case HIRES -> point.setHires(count.count());
+                    case CREATED -> point.setCreated(count.count());
+                    case TERMINATIONS -> point.setTerminations(count.count());
+                }
+            }
+        }
+        return ReportResponseDto.<TimeSeriesPointDto>builder()
+                .rows(new ArrayList<>(points.values()))
+                .source(fromRollup ? "rollup" : "live")
+                .asOf(fromRollup && asOf != null ? asOf : LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Rolls up the buckets closed since the last run, then recomputes dirty closed buckets
+     */
+    @Scheduled(fixedDelayString = "${ems.reports.timeseries.refresh-interval-ms:300000}")
+    @Workload(WorkloadType.BATCH)
+    public void rollUpTimeSeries() {
+        if (!timeSeriesRollups) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (rolledUpUntil.isEmpty()) {
+                rolledUpUntil.putAll(timeSeriesRepository.closedUntil());
+            }
+            LocalDate today = LocalDate.now();
+            for (TimeBucket bucket : TimeBucket.values()) {
+                LocalDate current = bucket.start(today);
+                LocalDate closed = rolledUpUntil.get(bucket);
+                if (closed == null || closed.isBefore(current)) {
+                    for (Metric metric : Metric.values()) {
+                        timeSeriesRepository.rollUp(bucket, metric, closed, current);
+                    }
+                    timeSeriesRepository.advance(bucket, current);
+                    rolledUpUntil.put(bucket, current);
+                }
+            }
+            int recomputed = 0;
+            for (DirtyBucket dirty : timeSeriesRepository.dirtyBuckets()) {
+                if (dirty.start().isBefore(rolledUpUntil.get(dirty.bucket()))) {
+                    recomputed += timeSeriesRepository.rollUpDirty(dirty) ? 1 : 0;
+                } else {
+                    // Not closed yet: the regular rollup computes it from scratch once it is
+                    timeSeriesRepository.clearDirty(dirty);
+                }
+            }
+            rollupsRefreshedAt = LocalDateTime.now();
+            log.debug("Time-series rollups refreshed ({} dirty buckets) in {} ms", recomputed,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            // Dirty marks are only removed together with their recomputation, so nothing is lost
+            log.warn("Time-series rollup failed - retrying on the next run", e);
+        }
+    }
+
+    // Before commit: the marks are written in the same transaction as the change
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        // Archived employees still count: the time series reads employees and the archive
+        if (!timeSeriesRollups || event.type() == ChangeType.ARCHIVED) {
+            return;
+        }
+        Set<DirtyBucket> dirty = new HashSet<>();
+        for (Metric metric : Metric.values()) {
+            Counted before = counted(metric, event.before());
+            Counted after = counted(metric, event.after());
+            if (!Objects.equals(before, after)) {
+                addDirty(dirty, metric, before);
+                addDirty(dirty, metric, after);
+            }
+        }
+        if (!dirty.isEmpty()) {
+            timeSeriesRepository.markDirty(dirty);
+        }
+    }
+
+    private void addDirty(Set<DirtyBucket> dirty, Metric metric, Counted counted) {
+        if (counted == null) {
+            return;
+        }
+        for (TimeBucket bucket : TimeBucket.values()) {
+            LocalDate bucketStart = bucket.start(counted.date());
+            LocalDate closed = rolledUpUntil.get(bucket);
+            if (closed == null || bucketStart.isBefore(closed)) {
+                dirty.add(new DirtyBucket(bucket, metric, bucketStart));
+            }
+        }
+    }
+
+    /**
+     * Where an employee counts for a metric - null if it does not count at all
+     */
+    private static Counted counted(Metric metric, EmployeeResponseDto employee) {
+        if (employee == null) {
+            return null;
+        }
+        LocalDate date = switch (metric) {
+            case HIRES -> employee.getHireDate();
+            case CREATED -> employee.getCreatedAt() != null ? employee.getCreatedAt().toLocalDate() : null;
+            case TERMINATIONS -> "TERMINATED".equals(employee.getStatus()) && employee.getUpdatedAt() != null
+                    ? employee.getUpdatedAt().toLocalDate() : null;
+        };
+        return date != null ? new Counted(date, employee.getDepartmentId()) : null;
+    }
+
+    private record Counted(LocalDate date, Long departmentId) {
+    }
+
+    /**
+     * Creates the views on the first run, then refreshes them; readers keep the previous
+     * contents while a refresh is running
+     */
+    @Scheduled(fixedDelayString = "${ems.reports.refresh-interval-ms:300000}")
+    @Workload(WorkloadType.BATCH)
+    public void refreshMaterializedViews() {
+        if (!materializedViews) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            reportRepository.createViews();
+            reportRepository.refreshViews();
+            viewsRefreshedAt = LocalDateTime.now();
+            log.debug("Report views refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.warn("Report view refresh failed - reports use {}", viewsRefreshedAt != null
+                    ? "the views as of " + viewsRefreshedAt : "live aggregation", e);
+        }
+    }
+
+    private static <T> ReportResponseDto<T> report(List<T> rows, LocalDateTime viewsRefreshedAt) {
+        return ReportResponseDto.<T>builder()
+                .rows(rows)
+                .source(viewsRefreshedAt != null ? "materialized-view" : "live")
+                .asOf(viewsRefreshedAt != null ? viewsRefreshedAt : LocalDateTime.now())
+                .build();
+    }
+}
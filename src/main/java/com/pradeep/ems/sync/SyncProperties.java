@@ -0,0 +1,32 @@
+package com.pradeep.ems.sync;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Delta sync settings (ems.sync.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.sync")
+public class SyncProperties {
+
+    private int defaultLimit = 500;
+    private int maxLimit = 5_000;
+
+    /**
+     * Changes younger than this are held back: updated_at is stamped before commit, so a
+     * slow transaction could otherwise commit behind a watermark a client already has.
+     * Must exceed the longest write transaction. Sync pages are read from the primary
+     * (@ReadFromPrimary), so replication lag does not count towards it.
+     */
+    private Duration settleTime = Duration.ofSeconds(5);
+
+    /**
+     * Tombstones are kept this long; a client with an older watermark must sync from scratch
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+}
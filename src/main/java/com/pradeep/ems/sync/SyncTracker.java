@@ -0,0 +1,129 @@
+package com.pradeep.ems.sync;
+
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import com.pradeep.ems.entity.SyncTombstone;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.DepartmentChangedEvent;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import com.pradeep.ems.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sync Tracker
+ *
+ * Pages through the changes of one entity type in (changed at, id) order: live rows by
+ * (updated_at, id), deleted ones by their tombstone's (deleted_at, entity_id). Both are
+ * index range scans starting right after the client's watermark.
+ *
+ * Tombstones are written in the deleting transaction (BEFORE_COMMIT) and pruned after
+ * ems.sync.tombstone-retention.
+ */
+@Component
+@EnableConfigurationProperties(SyncProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTracker {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String DEPARTMENTS = "departments";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncProperties properties;
+
+    /**
+     * The next page of changes to {@code table} after {@code since} (null for an initial sync)
+     */
+    public Batch changesSince(String table, String since, Integer limit) {
+        SyncWatermark from = SyncWatermark.parse(since);
+        LocalDateTime now = LocalDateTime.now();
+        if (!from.isInitial() && from.changedAt().isBefore(now.minus(properties.getTombstoneRetention()))) {
+            return new Batch(List.of(), List.of(), from, false, true);
+        }
+        int pageSize = limit == null ? properties.getDefaultLimit() : Math.max(1, Math.min(limit, properties.getMaxLimit()));
+        Timestamp changedAfter = Timestamp.valueOf(from.changedAt());
+        Timestamp upTo = Timestamp.valueOf(now.minus(properties.getSettleTime()));
+
+        String live = "SELECT id, updated_at AS changed_at, FALSE AS deleted FROM " + table
+                + " WHERE (updated_at, id) > (?, ?) AND updated_at <= ? ORDER BY updated_at, id LIMIT ?";
+        List<Object> params = new ArrayList<>(List.of(changedAfter, from.id(), upTo, pageSize));
+        String sql = live;
+        // Deleted rows only matter to clients that already hold data
+        if (!from.isInitial()) {
+            sql = "(" + live + ") UNION ALL (SELECT entity_id, deleted_at, TRUE FROM sync_tombstones"
+                    + " WHERE entity_type = ? AND (deleted_at, entity_id) > (?, ?) AND deleted_at <= ?"
+                    + " ORDER BY deleted_at, entity_id LIMIT ?) ORDER BY changed_at, id LIMIT ?";
+            params.addAll(List.of(entityType(table), changedAfter, from.id(), upTo, pageSize, pageSize));
+        }
+
+        List<Change> changes = jdbcTemplate.query(sql, (rs, rowNum) -> new Change(rs.getLong("id"),
+                rs.getTimestamp("changed_at").toLocalDateTime(), rs.getBoolean("deleted")), params.toArray());
+        List<Long> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        SyncWatermark next = from;
+        for (Change change : changes) {
+            (change.deleted() ? deleted : changed).add(change.id());
+            next = new SyncWatermark(change.changedAt(), change.id());
+        }
+        return new Batch(changed, deleted, next, changes.size() == pageSize, false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        // Archived employees leave the synced table as well
+        if (event.type() == ChangeType.DELETED || event.type() == ChangeType.ARCHIVED) {
+            tombstone(EMPLOYEES, event.employeeId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            tombstone(DEPARTMENTS, event.departmentId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ems.sync.prune-interval-ms:3600000}")
+    @Workload(WorkloadType.BATCH)
+    public void pruneTombstones() {
+        int deleted = syncTombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minus(properties.getTombstoneRetention()));
+        log.debug("Pruned {} sync tombstones", deleted);
+    }
+
+    private void tombstone(String table, Long id) {
+        syncTombstoneRepository.save(SyncTombstone.builder()
+                .entityType(entityType(table))
+                .entityId(id)
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static String entityType(String table) {
+        return EMPLOYEES.equals(table) ? "EMPLOYEE" : "DEPARTMENT";
+    }
+
+    /**
+     * One page: ids of changed (to be re-read) and deleted rows, the watermark to resume
+     * from, and whether more changes are waiting. resyncRequired means the client's
+     * watermark predates the retained tombstones and it must sync from scratch.
+     */
+    public record Batch(List<Long> changedIds, List<Long> deletedIds, SyncWatermark watermark,
+                        boolean hasMore, boolean resyncRequired) {
+    }
+
+    private record Change(long id, LocalDateTime changedAt, boolean deleted) {
+    }
+}
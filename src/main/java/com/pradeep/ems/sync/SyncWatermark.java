@@ -0,0 +1,40 @@
+package com.pradeep.ems.sync;
+
+import com.pradeep.ems.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in the (changed at, id) order of an entity's changes, exchanged with clients as
+ * "<ISO local date-time>_<id>"; everything at or before it has been delivered
+ */
+public record SyncWatermark(LocalDateTime changedAt, long id) {
+
+    /**
+     * Before every change: a full initial sync
+     */
+    public static final SyncWatermark INITIAL = new SyncWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    public static SyncWatermark parse(String watermark) {
+        if (watermark == null || watermark.isBlank()) {
+            return INITIAL;
+        }
+        int separator = watermark.lastIndexOf('_');
+        try {
+            return new SyncWatermark(LocalDateTime.parse(watermark.substring(0, separator)),
+                    Long.parseLong(watermark.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid sync watermark: " + watermark);
+        }
+    }
+
+    public boolean isInitial() {
+        return equals(INITIAL);
+    }
+
+    @Override
+    public String toString() {
+        return changedAt + "_" + id;
+    }
+}
@@ -0,0 +1,246 @@
+package com.pradeep.ems.typeahead;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable prefix index over employee name, email and employee ID, kept in a handful of
+ * primitive arrays instead of millions of String/Node objects:
+ * - pool: every row as UTF-8 "name\0email\0employeeId\0"
+ * - rowStart / ids: where each row starts in the pool and its employee id
+ * - terms: pool offsets of every searchable term, sorted case-insensitively
+ *
+ * A term runs from its offset to the next \0, so "Emma Sharma" yields the terms
+ * "emma sharma" and "sharma" without copying any bytes. Matching folds ASCII case only,
+ * on both sides, so it is consistent for any input.
+ */
+final class PrefixIndex {
+
+    static final PrefixIndex EMPTY = new Builder().build();
+
+    private final byte[] pool;
+    private final int[] rowStart;
+    private final long[] ids;
+    private final int[] terms;
+
+    private PrefixIndex(byte[] pool, int[] rowStart, long[] ids, int[] terms) {
+        this.pool = pool;
+        this.rowStart = rowStart;
+        this.ids = ids;
+        this.terms = terms;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long memoryBytes() {
+        return pool.length + 4L * rowStart.length + 8L * ids.length + 4L * terms.length;
+    }
+
+    /**
+     * Visits matching rows in term order until the visitor returns false.
+     * Rows rejected by {@code skip} (superseded by the delta) are not visited.
+     */
+    void search(byte[] foldedPrefix, LongPredicate skip, Visitor visitor) {
+        for (int i = lowerBound(foldedPrefix); i < terms.length; i++) {
+            int term = terms[i];
+            if (comparePrefix(term, foldedPrefix) != 0) {
+                return;
+            }
+            int row = rowOf(term);
+            if (!skip.test(ids[row]) && !visitor.visit(ids[row], row, term)) {
+                return;
+            }
+        }
+    }
+
+    String field(int row, int field) {
+        int start = rowStart[row];
+        for (int f = 0; f < field; f++) {
+            start = end(start) + 1;
+        }
+        return new String(pool, start, end(start) - start, StandardCharsets.UTF_8);
+    }
+
+    String term(int term) {
+        return fold(new String(pool, term, end(term) - term, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * ASCII-only lower-casing, the same folding the byte comparisons use
+     */
+    static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] += 'a' - 'A';
+            }
+        }
+        return new String(chars);
+    }
+
+    static byte[] foldedBytes(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = fold(bytes[i]);
+        }
+        return bytes;
+    }
+
+    private static byte fold(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private int end(int offset) {
+        int end = offset;
+        while (pool[end] != 0) {
+            end++;
+        }
+        return end;
+    }
+
+    private int rowOf(int term) {
+        int row = Arrays.binarySearch(rowStart, term);
+        return row >= 0 ? row : -row - 2;
+    }
+
+    private int lowerBound(byte[] prefix) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(terms[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares the term truncated to the prefix length: 0 means the term starts with the prefix
+     */
+    private int comparePrefix(int term, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            int a = fold(pool[term + i]) & 0xFF;
+            if (a == 0) {
+                return -1;
+            }
+            int b = prefix[i] & 0xFF;
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return 0;
+    }
+
+    private static int compareTerms(byte[] pool, int a, int b) {
+        for (int i = 0; ; i++) {
+            int x = fold(pool[a + i]) & 0xFF;
+            int y = fold(pool[b + i]) & 0xFF;
+            if (x != y || x == 0) {
+                return x - y;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        boolean visit(long id, int row, int term);
+    }
+
+    /**
+     * Accumulates rows in growable arrays; not thread-safe
+     */
+    static final class Builder {
+
+        private byte[] pool = new byte[1 << 16];
+        private int poolSize;
+        private int[] rowStart = new int[1024];
+        private long[] ids = new long[1024];
+        private int rows;
+        private int[] terms = new int[4096];
+        private int termCount;
+
+        Builder add(long id, String name, String email, String employeeId) {
+            if (rows == ids.length) {
+                ids = Arrays.copyOf(ids, rows * 2);
+                rowStart = Arrays.copyOf(rowStart, rows * 2);
+            }
+            ids[rows] = id;
+            rowStart[rows] = poolSize;
+            rows++;
+
+            int nameStart = append(name);
+            addTerm(nameStart);
+            for (int i = nameStart; pool[i] != 0; i++) {
+                if (pool[i] == ' ' && pool[i + 1] != ' ' && pool[i + 1] != 0) {
+                    addTerm(i + 1);  // every later word of the name
+                }
+            }
+            addTerm(append(email));
+            addTerm(append(employeeId));
+            return this;
+        }
+
+        PrefixIndex build() {
+            int[] sorted = Arrays.copyOf(terms, termCount);
+            sort(sorted, pool);
+            return new PrefixIndex(Arrays.copyOf(pool, poolSize), Arrays.copyOf(rowStart, rows),
+                    Arrays.copyOf(ids, rows), sorted);
+        }
+
+        private int append(String value) {
+            byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+            while (poolSize + bytes.length + 1 > pool.length) {
+                pool = Arrays.copyOf(pool, pool.length * 2);
+            }
+            int start = poolSize;
+            for (byte b : bytes) {
+                // \0 terminates terms; never let the data contain one
+                pool[poolSize++] = b == 0 ? (byte) ' ' : b;
+            }
+            pool[poolSize++] = 0;
+            return start;
+        }
+
+        private void addTerm(int offset) {
+            if (pool[offset] == 0) {
+                return;  // empty field
+            }
+            if (termCount == terms.length) {
+                terms = Arrays.copyOf(terms, termCount * 2);
+            }
+            terms[termCount++] = offset;
+        }
+
+        /**
+         * Bottom-up merge sort on the raw offsets - no boxing of millions of Integers
+         */
+        private static void sort(int[] offsets, byte[] pool) {
+            int[] source = offsets;
+            int[] target = new int[offsets.length];
+            for (int width = 1; width < offsets.length; width *= 2) {
+                for (int low = 0; low < offsets.length; low += 2 * width) {
+                    int mid = Math.min(low + width, offsets.length);
+                    int high = Math.min(low + 2 * width, offsets.length);
+                    int i = low, j = mid, k = low;
+                    while (i < mid && j < high) {
+                        target[k++] = compareTerms(pool, source[i], source[j]) <= 0 ? source[i++] : source[j++];
+                    }
+                    while (i < mid) target[k++] = source[i++];
+                    while (j < high) target[k++] = source[j++];
+                }
+                int[] swap = source;
+                source = target;
+                target = swap;
+            }
+            if (source != offsets) {
+                System.arraycopy(source, 0, offsets, 0, offsets.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.pradeep.ems.typeahead;
+
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.dto.response.EmployeeSuggestionDto;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Typeahead Index
+ *
+ * Answers prefix queries over employee name (any word), email and employee ID from memory:
+ * - base: an immutable PrefixIndex built from one streaming scan after startup
+ * - delta: employees created, changed or deleted since the base was built, applied from
+ *   committed EmployeeChangedEvents; a delta entry always supersedes the base row
+ *
+ * Once the delta grows past ems.typeahead.rebuild-threshold the base is rebuilt in the
+ * background and the delta entries it now covers are dropped. Until the first build
+ * finishes, isReady() is false and callers fall back to the database.
+ *
+ * Metrics: ems.typeahead.memory (bytes held by the base arrays), ems.typeahead.entries,
+ * ems.typeahead.delta.entries.
+ */
+@Component
+@EnableConfigurationProperties(TypeaheadProperties.class)
+@Slf4j
+public class TypeaheadIndex {
+
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int EMPLOYEE_ID = 2;
+
+    private final TypeaheadIndexLoader loader;
+    private final TypeaheadProperties properties;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, DeltaEntry> delta = new ConcurrentHashMap<>();
+    // "<folded term>\0<id>" -> id, so a prefix query is a sub-map range
+    private final ConcurrentNavigableMap<String, Long> deltaTerms = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile PrefixIndex base = PrefixIndex.EMPTY;
+    private volatile boolean ready;
+
+    public TypeaheadIndex(TypeaheadIndexLoader loader, TypeaheadProperties properties, MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.properties = properties;
+        Gauge.builder("ems.typeahead.memory", this, index -> index.base.memoryBytes())
+                .baseUnit("bytes")
+                .description("Heap held by the typeahead base index arrays")
+                .register(meterRegistry);
+        Gauge.builder("ems.typeahead.entries", this, index -> index.base.size())
+                .description("Employees in the typeahead base index")
+                .register(meterRegistry);
+        Gauge.builder("ems.typeahead.delta.entries", delta, Map::size)
+                .description("Employees changed since the typeahead base index was built")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The requested result count, defaulted and capped by ems.typeahead.*
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return properties.getDefaultLimit();
+        }
+        return Math.max(1, Math.min(requested, properties.getMaxLimit()));
+    }
+
+    /**
+     * Up to {@code limit} employees with a name word, email or employee ID starting with
+     * {@code prefix} (ASCII case-insensitive), ordered by the matched term
+     */
+    public List<EmployeeSuggestionDto> suggest(String prefix, int limit) {
+        String folded = PrefixIndex.fold(prefix);
+        List<Match> matches = new ArrayList<>(2 * limit);
+
+        PrefixIndex index = base;
+        Set<Long> seen = new HashSet<>();
+        index.search(PrefixIndex.foldedBytes(folded), delta::containsKey, (id, row, term) -> {
+            if (seen.add(id)) {
+                matches.add(new Match(index.term(term), EmployeeSuggestionDto.builder()
+                        .id(id)
+                        .name(index.field(row, NAME))
+                        .email(index.field(row, EMAIL))
+                        .employeeId(index.field(row, EMPLOYEE_ID))
+                        .build()));
+            }
+            return seen.size() < limit;
+        });
+
+        int fromDelta = 0;
+        for (Map.Entry<String, Long> entry : deltaTerms.subMap(folded, folded + Character.MAX_VALUE).entrySet()) {
+            DeltaEntry current = delta.get(entry.getValue());
+            if (current == null || current.suggestion() == null || !seen.add(entry.getValue())) {
+                continue;  // deleted, or raced with a newer change
+            }
+            String term = entry.getKey().substring(0, entry.getKey().lastIndexOf('\0'));
+            matches.add(new Match(term, current.suggestion()));
+            if (++fromDelta == limit) {
+                break;
+            }
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparing(Match::term))
+                .limit(limit)
+                .map(Match::suggestion)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (properties.isEnabled()) {
+            rebuildAsync();
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!properties.isEnabled() || !changesIndexedFields(event.before(), event.after())) {
+            return;
+        }
+        EmployeeSuggestionDto suggestion = event.after() == null ? null : EmployeeSuggestionDto.builder()
+                .id(event.employeeId())
+                .name(event.after().getName())
+                .email(event.after().getEmail())
+                .employeeId(event.after().getEmployeeId())
+                .build();
+        DeltaEntry entry = new DeltaEntry(sequence.incrementAndGet(), suggestion);
+        DeltaEntry previous = delta.put(event.employeeId(), entry);
+        removeTerms(event.employeeId(), previous);
+        if (suggestion != null) {
+            terms(suggestion).forEach(term -> deltaTerms.put(term + '\0' + event.employeeId(), event.employeeId()));
+        }
+
+        if (ready && delta.size() > properties.getRebuildThreshold()) {
+            rebuildAsync();
+        }
+    }
+
+    private void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "typeahead-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void rebuild() {
+        try {
+            // Changes committed before the scan starts are in the new base; later ones are kept
+            long coveredUpTo = sequence.get();
+            long start = System.nanoTime();
+            PrefixIndex rebuilt = loader.load();
+            synchronized (this) {
+                base = rebuilt;
+                delta.forEach((id, entry) -> {
+                    if (entry.sequence() <= coveredUpTo && delta.remove(id, entry)) {
+                        removeTerms(id, entry);
+                    }
+                });
+            }
+            ready = true;
+            log.info("Typeahead index built: {} employees, {} KB, {} ms", rebuilt.size(),
+                    rebuilt.memoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Typeahead index build failed - autocomplete keeps using {}", ready ? "the previous index" : "the database", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void removeTerms(Long id, DeltaEntry entry) {
+        if (entry != null && entry.suggestion() != null) {
+            terms(entry.suggestion()).forEach(term -> deltaTerms.remove(term + '\0' + id));
+        }
+    }
+
+    /**
+     * The same terms the base index derives: the full name, every later word of it, email, employee ID
+     */
+    private static List<String> terms(EmployeeSuggestionDto suggestion) {
+        List<String> terms = new ArrayList<>();
+        if (suggestion.getName() != null && !suggestion.getName().isEmpty()) {
+            String name = PrefixIndex.fold(suggestion.getName());
+            terms.add(name);
+            for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                if (i + 1 < name.length() && name.charAt(i + 1) != ' ') {
+                    terms.add(name.substring(i + 1));
+                }
+            }
+        }
+        if (suggestion.getEmail() != null && !suggestion.getEmail().isEmpty()) {
+            terms.add(PrefixIndex.fold(suggestion.getEmail()));
+        }
+        if (suggestion.getEmployeeId() != null && !suggestion.getEmployeeId().isEmpty()) {
+            terms.add(PrefixIndex.fold(suggestion.getEmployeeId()));
+        }
+        return terms;
+    }
+
+    private static boolean changesIndexedFields(EmployeeResponseDto before, EmployeeResponseDto after) {
+        return before == null || after == null
+                || !Objects.equals(before.getName(), after.getName())
+                || !Objects.equals(before.getEmail(), after.getEmail())
+                || !Objects.equals(before.getEmployeeId(), after.getEmployeeId());
+    }
+
+    /**
+     * suggestion is null for a deleted employee
+     */
+    private record DeltaEntry(long sequence, EmployeeSuggestionDto suggestion) {
+    }
+
+    private record Match(String term, EmployeeSuggestionDto suggestion) {
+    }
+}
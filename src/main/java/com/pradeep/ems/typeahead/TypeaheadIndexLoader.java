@@ -0,0 +1,36 @@
+package com.pradeep.ems.typeahead;
+
+import com.pradeep.ems.datasource.ReadFromPrimary;
+import com.pradeep.ems.datasource.Workload;
+import com.pradeep.ems.datasource.WorkloadType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams the three indexed columns out of Postgres. The read-only transaction turns off
+ * auto-commit, which makes the driver use a cursor and honour the fetch size instead of
+ * materialising the whole result set.
+ */
+@Component
+@RequiredArgsConstructor
+class TypeaheadIndexLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TypeaheadProperties properties;
+
+    // A rebuild drops the deltas applied while it ran, so its scan must not lag behind them
+    @ReadFromPrimary
+    @Workload(WorkloadType.BATCH)
+    @Transactional(readOnly = true)
+    public PrefixIndex load() {
+        PrefixIndex.Builder builder = new PrefixIndex.Builder();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(properties.getFetchSize());
+        streaming.query("SELECT id, name, email, employee_id FROM employees",
+                (RowCallbackHandler) rs -> builder.add(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)));
+        return builder.build();
+    }
+}
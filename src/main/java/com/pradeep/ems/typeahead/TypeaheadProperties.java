@@ -0,0 +1,32 @@
+package com.pradeep.ems.typeahead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Typeahead index settings (ems.typeahead.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ems.typeahead")
+public class TypeaheadProperties {
+
+    /**
+     * Build the in-memory index at startup; when off, autocomplete always queries the database
+     */
+    private boolean enabled = true;
+
+    private int defaultLimit = 10;
+    private int maxLimit = 50;
+
+    /**
+     * Changed employees kept in the delta overlay before the base index is rebuilt
+     */
+    private int rebuildThreshold = 20_000;
+
+    /**
+     * Rows per round trip of the streaming scan that builds the index
+     */
+    private int fetchSize = 10_000;
+}
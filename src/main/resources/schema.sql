@@ -0,0 +1,50 @@
+-- Tables outside the JPA model, created at startup by spring.sql.init (see application.yaml).
+-- Every statement is idempotent; none refers to the Hibernate-managed tables.
+
+-- Hiring time series (TimeSeriesRepository): closed buckets per department, how far each bucket
+-- width is rolled up, and closed buckets a committed change has made stale
+CREATE TABLE IF NOT EXISTS report_timeseries_rollup (
+    granularity VARCHAR(16) NOT NULL,
+    metric VARCHAR(16) NOT NULL,
+    bucket_start DATE NOT NULL,
+    department_id BIGINT NOT NULL,
+    headcount BIGINT NOT NULL,
+    PRIMARY KEY (granularity, metric, bucket_start, department_id)
+);
+
+CREATE TABLE IF NOT EXISTS report_timeseries_state (
+    granularity VARCHAR(16) PRIMARY KEY,
+    closed_until DATE NOT NULL,
+    rolled_up_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS report_timeseries_dirty (
+    granularity VARCHAR(16) NOT NULL,
+    metric VARCHAR(16) NOT NULL,
+    bucket_start DATE NOT NULL,
+    PRIMARY KEY (granularity, metric, bucket_start)
+);
+
+-- Archived employees (EmployeeArchiveRepository), one partition per year of terminated_at;
+-- the archiver creates the partitions it needs
+CREATE TABLE IF NOT EXISTS employees_archive (
+    id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    employee_id VARCHAR(20),
+    status VARCHAR(20),
+    phone_number VARCHAR(15),
+    address VARCHAR(200),
+    hire_date DATE,
+    salary NUMERIC(10, 2),
+    job_title VARCHAR(100),
+    department_id BIGINT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT,
+    terminated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+) PARTITION BY RANGE (terminated_at);
+
+CREATE INDEX IF NOT EXISTS idx_employees_archive_id ON employees_archive (id);
+CREATE INDEX IF NOT EXISTS idx_employees_archive_department ON employees_archive (department_id);
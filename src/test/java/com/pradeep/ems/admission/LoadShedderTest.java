@@ -0,0 +1,69 @@
+package com.pradeep.ems.admission;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Priority between endpoint classes under in-flight and connection-wait pressure
+ */
+class LoadShedderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final LoadShedder shedder;
+
+    LoadShedderTest() {
+        properties.getShedding().setMaxInFlight(3);
+        properties.getShedding().setLowPriorityMaxInFlight(1);
+        shedder = new LoadShedder(properties, meterRegistry);
+    }
+
+    @Test
+    void reportsAreShedBeforeInteractiveRequests() {
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isNull();
+        assertThat(shedder.tryAdmit(EndpointClass.REPORT)).isEqualTo(RejectionReason.IN_FLIGHT);
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isNull();
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isNull();
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isEqualTo(RejectionReason.IN_FLIGHT);
+
+        shedder.release(EndpointClass.INTERACTIVE);
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isNull();
+    }
+
+    @Test
+    void rejectionsDoNotLeakInFlightSlots() {
+        for (int i = 0; i < 10; i++) {
+            shedder.tryAdmit(EndpointClass.EXPORT);
+        }
+        shedder.release(EndpointClass.EXPORT);
+
+        assertThat(shedder.tryAdmit(EndpointClass.EXPORT)).isNull();
+    }
+
+    @Test
+    void slowConnectionWaitsShedLowPriorityFirst() {
+        Timer acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(meterRegistry);
+        Timer reporting = Timer.builder("hikaricp.connections.acquire").tag("pool", "reporting").register(meterRegistry);
+        shedder.samplePoolWait();
+
+        acquire.record(Duration.ofMillis(100));
+        reporting.record(Duration.ofSeconds(5));  // dedicated pool, ignored
+        shedder.samplePoolWait();
+        assertThat(shedder.tryAdmit(EndpointClass.REPORT)).isEqualTo(RejectionReason.POOL_WAIT);
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isNull();
+        shedder.release(EndpointClass.INTERACTIVE);
+
+        acquire.record(900, TimeUnit.MILLISECONDS);
+        shedder.samplePoolWait();
+        assertThat(shedder.tryAdmit(EndpointClass.INTERACTIVE)).isEqualTo(RejectionReason.POOL_WAIT);
+
+        shedder.samplePoolWait();  // nothing waited since
+        assertThat(shedder.tryAdmit(EndpointClass.REPORT)).isNull();
+    }
+}
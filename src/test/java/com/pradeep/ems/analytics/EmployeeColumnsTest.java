@@ -0,0 +1,68 @@
+package com.pradeep.ems.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Filtering, grouping and tombstoning of the columnar snapshot
+ */
+class EmployeeColumnsTest {
+
+    private final EmployeeColumns columns = new EmployeeColumns(0);
+
+    EmployeeColumnsTest() {
+        columns.upsert(1, new BigDecimal("50000.50"), LocalDate.of(2020, 1, 15), "ACTIVE", 10L, "Engineer");
+        columns.upsert(2, new BigDecimal("70000.00"), LocalDate.of(2020, 6, 1), "ACTIVE", 20L, "Engineer");
+        columns.upsert(3, new BigDecimal("90000.00"), LocalDate.of(2022, 3, 9), "TERMINATED", 10L, "Manager");
+        columns.upsert(4, null, null, "ACTIVE", null, null);
+    }
+
+    @Test
+    void groupsByStatusWithSalaryAggregates() {
+        List<EmployeeColumns.Group> groups = query(new AnalyticsQuery(AnalyticsGroupBy.STATUS, null, null, null, null, null, null, null));
+
+        assertThat(groups).extracting(EmployeeColumns.Group::key).containsExactly("ACTIVE", "TERMINATED");
+        EmployeeColumns.Group active = groups.get(0);
+        assertThat(active.count()).isEqualTo(3);
+        assertThat(active.salaryCount()).isEqualTo(2);
+        assertThat(active.salarySumCents()).isEqualTo(12_000_050);
+        assertThat(active.salaryMinCents()).isEqualTo(5_000_050);
+    }
+
+    @Test
+    void filtersAreAndedAndBoundsExcludeMissingValues() {
+        List<EmployeeColumns.Group> groups = query(new AnalyticsQuery(null, List.of("ACTIVE", "UNKNOWN"), List.of(10L, 20L),
+                null, new BigDecimal("60000"), null, LocalDate.of(2020, 1, 1), null));
+
+        assertThat(groups).singleElement().satisfies(group -> assertThat(group.count()).isEqualTo(1));
+        assertThat(query(new AnalyticsQuery(null, List.of("UNKNOWN"), null, null, null, null, null, null))).isEmpty();
+    }
+
+    @Test
+    void groupsByHireMonthWithUndatedBucketLast() {
+        List<EmployeeColumns.Group> groups = query(new AnalyticsQuery(AnalyticsGroupBy.HIRE_MONTH, null, null, null, null, null, null, null));
+
+        assertThat(groups).extracting(EmployeeColumns.Group::key).containsExactly("2020-01", "2020-06", "2022-03", "(none)");
+    }
+
+    @Test
+    void updatesMoveRowsAndDeletesTombstoneThem() {
+        columns.upsert(2, new BigDecimal("70000.00"), LocalDate.of(2020, 6, 1), "INACTIVE", 20L, "Engineer");
+        columns.delete(3);
+
+        assertThat(query(new AnalyticsQuery(AnalyticsGroupBy.STATUS, null, null, null, null, null, null, null)))
+                .extracting(EmployeeColumns.Group::key, EmployeeColumns.Group::count)
+                .containsExactly(tuple("ACTIVE", 2L), tuple("INACTIVE", 1L));
+        assertThat(columns.liveRows()).isEqualTo(3);
+    }
+
+    private List<EmployeeColumns.Group> query(AnalyticsQuery query) {
+        return columns.query(query).groups();
+    }
+}
@@ -0,0 +1,81 @@
+package com.pradeep.ems.cache;
+
+import com.pradeep.ems.dto.response.CountStrategy;
+import com.pradeep.ems.dto.response.EmployeeResponseDto;
+import com.pradeep.ems.event.ChangeType;
+import com.pradeep.ems.event.DepartmentChangedEvent;
+import com.pradeep.ems.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Generation-based invalidation of cached listing pages
+ */
+class EmployeeListCacheTest {
+
+    private final EmployeeListCache listCache =
+            new EmployeeListCache(new ConcurrentMapCacheManager(EmployeeListCache.CACHE_NAME));
+    private final Pageable firstPage = PageRequest.of(0, 20);
+
+    @Test
+    void writeInOneDepartmentKeepsOtherDepartmentsCached() {
+        String dept1 = cache(1L);
+        String dept2 = cache(2L);
+        String unfiltered = cache(null);
+
+        listCache.onEmployeeChanged(EmployeeChangedEvent.created(employee(10L, 1L)));
+
+        assertThat(lookup(1L)).isNull();
+        assertThat(lookup(null)).isNull();
+        assertThat(lookup(2L)).isNotNull();
+        assertThat(listCache.keyFor("", 2L, firstPage, CountStrategy.EXACT)).isEqualTo(dept2);
+        assertThat(dept1).isNotEqualTo(listCache.keyFor("", 1L, firstPage, CountStrategy.EXACT));
+        assertThat(unfiltered).isNotEqualTo(listCache.keyFor("", null, firstPage, CountStrategy.EXACT));
+    }
+
+    @Test
+    void transferInvalidatesBothDepartments() {
+        cache(1L);
+        cache(2L);
+        cache(3L);
+
+        listCache.onEmployeeChanged(EmployeeChangedEvent.updated(employee(10L, 1L), employee(10L, 2L)));
+
+        assertThat(lookup(1L)).isNull();
+        assertThat(lookup(2L)).isNull();
+        assertThat(lookup(3L)).isNotNull();
+    }
+
+    @Test
+    void departmentChangeInvalidatesThatDepartmentAndUnfilteredPages() {
+        cache(1L);
+        cache(2L);
+        cache(null);
+
+        listCache.onDepartmentChanged(new DepartmentChangedEvent(ChangeType.UPDATED, 1L, null));
+
+        assertThat(lookup(1L)).isNull();
+        assertThat(lookup(null)).isNull();
+        assertThat(lookup(2L)).isNotNull();
+    }
+
+    private String cache(Long departmentId) {
+        String key = listCache.keyFor("", departmentId, firstPage, CountStrategy.EXACT);
+        listCache.put(key, new EmployeeListCache.CachedPage(List.of(1L, 2L), false, 2L));
+        return key;
+    }
+
+    private EmployeeListCache.CachedPage lookup(Long departmentId) {
+        return listCache.get(listCache.keyFor("", departmentId, firstPage, CountStrategy.EXACT));
+    }
+
+    private static EmployeeResponseDto employee(Long id, Long departmentId) {
+        return EmployeeResponseDto.builder().id(id).departmentId(departmentId).build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.pradeep.ems.controller;
+
+import com.pradeep.ems.loadtest.LoadTestTokens;
+import com.pradeep.ems.support.AllocationProfile;
+import com.pradeep.ems.support.TestDatabase;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Allocation budgets for the read endpoints.
+ *
+ * Each test drives one endpoint through the full filter chain (id_token cookie, JWT decoding,
+ * authority lookup, admission, controller, service, JSON) in a loop under a JFR recording, and
+ * fails when the bytes allocated per request exceed the endpoint's budget. Budgets are roughly
+ * 1.5 times the allocation measured on the seeded dataset with warm caches; the figures include
+ * MockMvc's own request and response objects. Per-endpoint summaries (top allocated classes and
+ * allocating application frames) and the recordings are written to target/allocation/.
+ *
+ * Uses the loadtest profile for locally signed tokens and the in-process user service.
+ * Part of the db-tests profile, on its own database emsalloc (see TestDatabase):
+ *   mvn -Pdb-tests test -Dgroups=allocation -Ddb-tests.jdbc-url=jdbc:postgresql://localhost:5432/postgres
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "ems.loadtest.seed.departments=20",
+        "ems.loadtest.seed.employees=5000",
+        "ems.loadtest.user-service.port=18092",
+        "ems.loadtest.user-service.authority=ROLE_HR",
+        "ems.loadtest.user-service.latency=0ms",
+        "ems.loadtest.user-service.latency-jitter=0ms"
+})
+// Printing is off: by default every result is formatted and buffered in case the test fails
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@ActiveProfiles("loadtest")
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 300;
+    private static final Path REPORT_DIR = Path.of("target", "allocation");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private LoadTestTokens tokens;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static Fixture fixture;
+
+    @BeforeAll
+    static void requireDatabase() {
+        TestDatabase.require();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry, "emsalloc");
+    }
+
+    @BeforeEach
+    void fixture() {
+        if (fixture != null) {
+            return;
+        }
+        Long department = jdbcTemplate.queryForObject("SELECT min(department_id) FROM employees", Long.class);
+        Long employee = jdbcTemplate.queryForObject("SELECT min(id) FROM employees WHERE department_id = ?", Long.class, department);
+        fixture = new Fixture(department, employee, new Cookie("id_token", tokens.tokenFor(0)));
+    }
+
+    // ---- Employees ----
+
+    @Test
+    void listEmployees() throws Exception {
+        check("employees-list", 400_000, "/api/v1/employees?page=0&size=20");
+    }
+
+    @Test
+    void searchEmployees() throws Exception {
+        check("employees-search", 400_000, "/api/v1/employees?page=0&size=20&search=kumar");
+    }
+
+    @Test
+    void listEmployeesOfDepartment() throws Exception {
+        check("employees-list-department", 400_000, "/api/v1/employees?page=0&size=20&departmentId=" + fixture.department());
+    }
+
+    @Test
+    void getEmployee() throws Exception {
+        check("employees-get", 300_000, "/api/v1/employees/" + fixture.employee());
+    }
+
+    @Test
+    void employeesByDepartment() throws Exception {
+        // Unpaged: every employee of the first seeded department (about 1,600)
+        check("employees-by-department", 14_000_000, "/api/v1/employees/department/" + fixture.department());
+    }
+
+    @Test
+    void autocomplete() throws Exception {
+        check("employees-autocomplete", 300_000, "/api/v1/employees/autocomplete?q=ra");
+    }
+
+    @Test
+    void topEarners() throws Exception {
+        check("employees-top-earners", 300_000, "/api/v1/employees/top-earners");
+    }
+
+    // ---- Departments ----
+
+    @Test
+    void listDepartments() throws Exception {
+        check("departments-list", 700_000, "/api/v1/departments");
+    }
+
+    @Test
+    void getDepartment() throws Exception {
+        check("departments-get", 300_000, "/api/v1/departments/" + fixture.department());
+    }
+
+    // ---- Reports ----
+
+    @Test
+    void salaryReport() throws Exception {
+        check("reports-salary", 400_000, "/api/v1/reports/departments/salary");
+    }
+
+    @Test
+    void hiringTimeSeries() throws Exception {
+        check("reports-timeseries-hiring", 325_000, "/api/v1/reports/timeseries/hiring");
+    }
+
+    @Test
+    void analytics() throws Exception {
+        check("reports-analytics", 360_000, "/api/v1/reports/analytics?groupBy=DEPARTMENT");
+    }
+
+    // ---- Sync ----
+
+    @Test
+    void syncEmployees() throws Exception {
+        check("sync-employees", 1_500_000, "/api/v1/sync/employees?limit=100");
+    }
+
+    // ---- helpers ----
+
+    private void check(String name, long budgetBytes, String uri) throws Exception {
+        AllocationProfile profile = AllocationProfile.measure(WARMUP, ITERATIONS, () -> mockMvc
+                .perform(get(uri).cookie(fixture.token()))
+                .andExpect(status().isOk()));
+        profile.write(REPORT_DIR, name);
+        assertThat(profile.bytesPerCall())
+                .as("%s: bytes allocated per request to %s%n%s", name, uri, profile.summary())
+                .isLessThanOrEqualTo(budgetBytes);
+    }
+
+    private record Fixture(Long department, Long employee, Cookie token) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.pradeep.ems.controller;
+
+import com.pradeep.ems.loadtest.LoadTestTokens;
+import com.pradeep.ems.support.TestDatabase;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Objects;
+
+import static com.pradeep.ems.support.QueryCountAssertions.assertQueryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the SQL statements the main read endpoints issue, cold (empty caches) and warm, through
+ * the full filter chain. A new lazy association or per-row lookup shows up here as a changed
+ * count before it shows up as an N+1 warning in production.
+ *
+ * Uses the loadtest profile for locally signed tokens and the in-process user service.
+ * Part of the db-tests profile, on its own database emsqueries (see TestDatabase):
+ *   mvn -Pdb-tests test -Dgroups=queries -Ddb-tests.jdbc-url=jdbc:postgresql://localhost:5432/postgres
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "ems.loadtest.seed.departments=20",
+        "ems.loadtest.seed.employees=500",
+        "ems.loadtest.user-service.port=18093",
+        "ems.loadtest.user-service.latency=0ms",
+        "ems.loadtest.user-service.latency-jitter=0ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@Tag("queries")
+class QueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private LoadTestTokens tokens;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cookie token;
+    private Long employee;
+
+    @BeforeAll
+    static void requireDatabase() {
+        TestDatabase.require();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry, "emsqueries");
+    }
+
+    @BeforeEach
+    void coldCaches() {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+        token = new Cookie("id_token", tokens.tokenFor(0));
+        employee = jdbcTemplate.queryForObject("SELECT min(id) FROM employees", Long.class);
+    }
+
+    @Test
+    void listEmployees() throws Exception {
+        // Page with its department fetch-joined, plus the exact COUNT(*)
+        assertQueryCount(2, () -> request("/api/v1/employees?page=0&size=20"));
+        // Id list and every employee on it come from the caches
+        assertQueryCount(0, () -> request("/api/v1/employees?page=0&size=20"));
+    }
+
+    @Test
+    void getEmployee() throws Exception {
+        assertQueryCount(1, () -> request("/api/v1/employees/" + employee));
+        assertQueryCount(0, () -> request("/api/v1/employees/" + employee));
+    }
+
+    @Test
+    void employeeFromListingIsAlreadyCached() throws Exception {
+        Long first = jdbcTemplate.queryForObject("SELECT id FROM employees ORDER BY id LIMIT 1", Long.class);
+        assertQueryCount(2, () -> request("/api/v1/employees?page=0&size=20&sort=id"));
+        assertQueryCount(0, () -> request("/api/v1/employees/" + first));
+    }
+
+    @Test
+    void listDepartments() throws Exception {
+        // All departments, plus one grouped COUNT for those without a stored head count
+        assertQueryCount(2, () -> request("/api/v1/departments"));
+        // Not cached
+        assertQueryCount(2, () -> request("/api/v1/departments"));
+    }
+
+    private void request(String uri) throws Exception {
+        mockMvc.perform(get(uri).cookie(token))
+                .andExpect(status().isOk());
+    }
+}
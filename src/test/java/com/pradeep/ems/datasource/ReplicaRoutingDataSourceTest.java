@@ -0,0 +1,137 @@
+package com.pradeep.ems.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing decisions with stand-in DataSources for the primary and the replica
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicas, properties, meterRegistry);
+
+        routing = new ReplicaRoutingDataSource(monitor, new ReadYourWritesTracker(Duration.ofSeconds(5)), meterRegistry);
+        routing.setTargetDataSources(Map.of(ReplicaRoutingDataSource.PRIMARY, primary, "replica-1", replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("hr-user", "n/a"));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void writeTransactionsUsePrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readsAfterOwnCommittedWriteStayOnPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("someone-else", "n/a"));
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void cacheFillAfterAnotherPrincipalsWriteReadsPrimary() throws SQLException {
+        // hr-user commits an update, which evicts the cached row
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Another principal misses the cache: a replica might not have the update yet
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("someone-else", "n/a"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Reads(routing));
+        factory.addAspect(new PrimaryReadAspect());
+        Reads reads = factory.getProxy();
+
+        assertThat(reads.fillCache()).isSameAs(primaryConnection);
+        assertThat(reads.answerCaller()).isSameAs(replicaConnection);
+        assertThat(PrimaryReadContext.isActive()).isFalse();
+    }
+
+    @Test
+    void failingReplicaFailsOverToPrimary() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        // Out of rotation now, so the replica is not even tried again
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    static class Reads {
+
+        private final DataSource dataSource;
+
+        Reads(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @ReadFromPrimary
+        public Connection fillCache() throws SQLException {
+            return dataSource.getConnection();
+        }
+
+        public Connection answerCaller() throws SQLException {
+            return dataSource.getConnection();
+        }
+    }
+}
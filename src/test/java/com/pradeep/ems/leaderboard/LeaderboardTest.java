@@ -0,0 +1,60 @@
+package com.pradeep.ems.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bounding, completeness and the prefix invariant of a single leaderboard
+ */
+class LeaderboardTest {
+
+    @Test
+    void completeBoardRanksEveryEarnerBySalaryThenId() {
+        Leaderboard board = new Leaderboard(3, List.of(entry(1, 100), entry(2, 300)), true);
+        board.update(3, entry(3, 100));
+
+        assertThat(ids(board.top(5))).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void overflowEvictsTheLowestAndMakesTheBoardIncomplete() {
+        Leaderboard board = new Leaderboard(2, List.of(entry(1, 100), entry(2, 200)), true);
+        board.update(3, entry(3, 300));
+
+        assertThat(ids(board.top(2))).containsExactly(3L, 2L);
+        // Employee 1 is no longer known, so a third position cannot be answered
+        assertThat(board.top(3)).isNull();
+    }
+
+    @Test
+    void incompleteBoardIgnoresNewcomersBelowItsLastEntry() {
+        Leaderboard board = new Leaderboard(3, List.of(entry(1, 300), entry(2, 200)), false);
+        board.update(3, entry(3, 100));
+        board.update(4, entry(4, 250));
+
+        assertThat(ids(board.top(3))).containsExactly(1L, 4L, 2L);
+    }
+
+    @Test
+    void leaversShrinkTheBoardUntilItNeedsAReload() {
+        Leaderboard board = new Leaderboard(3, List.of(entry(1, 300), entry(2, 200), entry(3, 100)), false);
+        long version = board.version();
+        board.update(1, null);
+
+        assertThat(board.version()).isGreaterThan(version);
+        assertThat(ids(board.top(2))).containsExactly(2L, 3L);
+        assertThat(board.top(3)).isNull();
+    }
+
+    private static Leaderboard.Entry entry(long id, long salary) {
+        return new Leaderboard.Entry(id, BigDecimal.valueOf(salary), "Employee " + id, "E" + id, null, 1L, "Dept");
+    }
+
+    private static List<Long> ids(List<Leaderboard.Entry> entries) {
+        return entries.stream().map(Leaderboard.Entry::id).toList();
+    }
+}
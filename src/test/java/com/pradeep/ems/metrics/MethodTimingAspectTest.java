@@ -0,0 +1,61 @@
+package com.pradeep.ems.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MethodTimingAspectTest {
+
+    interface BaseRepository {
+        default String findById(Long id) {
+            return "found";
+        }
+    }
+
+    interface EmployeeStore extends BaseRepository {
+    }
+
+    interface DepartmentStore extends BaseRepository {
+    }
+
+    static class EmployeeStoreImpl implements EmployeeStore {
+    }
+
+    static class DepartmentStoreImpl implements DepartmentStore {
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MethodTimingAspect aspect = new MethodTimingAspect(meterRegistry);
+
+    @Test
+    void inheritedMethodIsTaggedWithEachCallersClass() throws Throwable {
+        // One Method object, declared once and called through two repositories
+        Method findById = BaseRepository.class.getMethod("findById", Long.class);
+
+        aspect.time(joinPoint(new EmployeeStoreImpl(), findById), "repository");
+        aspect.time(joinPoint(new DepartmentStoreImpl(), findById), "repository");
+        aspect.time(joinPoint(new DepartmentStoreImpl(), findById), "repository");
+
+        assertThat(meterRegistry.get(MethodTimingAspect.METRIC_NAME).tag("class", "EmployeeStore")
+                .tag("method", "findById").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MethodTimingAspect.METRIC_NAME).tag("class", "DepartmentStore")
+                .tag("method", "findById").timer().count()).isEqualTo(2);
+    }
+
+    private static ProceedingJoinPoint joinPoint(Object target, Method method) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getTarget()).thenReturn(target);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenReturn("found");
+        return joinPoint;
+    }
+}
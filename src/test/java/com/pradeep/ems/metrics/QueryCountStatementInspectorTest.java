@@ -0,0 +1,38 @@
+package com.pradeep.ems.metrics;
+
+import com.pradeep.ems.support.QueryCountAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCountStatementInspectorTest {
+
+    private final QueryCountStatementInspector inspector = new QueryCountStatementInspector();
+
+    @Test
+    void countsStatementsInsideScopeOnly() throws Exception {
+        inspector.inspect("select 1");
+
+        QueryCountAssertions.assertQueryCount(3, () -> {
+            inspector.inspect("select * from employees");
+            inspector.inspect("select * from departments where id=?");
+            inspector.inspect("select count(*) from employees");
+        });
+
+        assertThat(QueryCountHolder.current()).isNull();
+    }
+
+    @Test
+    void failsWhenCountDiffers() {
+        assertThatThrownBy(() -> QueryCountAssertions.assertQueryCount(1, () -> {
+            inspector.inspect("select * from employees");
+            inspector.inspect("select * from departments where id=?");
+        })).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void passesSqlThroughUnchanged() {
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+}
@@ -0,0 +1,143 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dto.request.PatchEmployeeRequestDto;
+import com.pradeep.ems.exception.BadRequestException;
+import com.pradeep.ems.exception.ConflictException;
+import com.pradeep.ems.exception.ResourceNotFoundException;
+import com.pradeep.ems.repository.EmployeeRepositoryCustom.PatchedEmployee;
+import com.pradeep.ems.service.EmployeeService;
+import com.pradeep.ems.support.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The version-checked PATCH: the UPDATE ... RETURNING statement in EmployeeRepositoryImpl and
+ * how EmployeeServiceImpl turns its outcomes into 409 (stale version, duplicate email),
+ * 404 (missing employee) and 400 (a value the columns reject). Each test rolls back.
+ *
+ * Part of the db-tests profile, on its own database emspatch (see TestDatabase):
+ *   mvn -Pdb-tests test -Dgroups=patch -Ddb-tests.jdbc-url=jdbc:postgresql://localhost:5432/postgres
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "ems.loadtest.seed.departments=2",
+        "ems.loadtest.seed.employees=20",
+        "ems.loadtest.user-service.port=18094"
+})
+@ActiveProfiles("loadtest")
+@Transactional
+@Tag("patch")
+class EmployeePatchTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long employee;
+    private long version;
+
+    @BeforeAll
+    static void requireDatabase() {
+        TestDatabase.require();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry, "emspatch");
+    }
+
+    @BeforeEach
+    void employee() {
+        employee = jdbcTemplate.queryForObject("SELECT min(id) FROM employees", Long.class);
+        version = jdbcTemplate.queryForObject("SELECT version FROM employees WHERE id = ?", Long.class, employee);
+    }
+
+    // ---- Repository ----
+
+    @Test
+    void patchReturnsRowBeforeAndAfter() {
+        String name = jdbcTemplate.queryForObject("SELECT name FROM employees WHERE id = ?", String.class, employee);
+
+        PatchedEmployee patched = employeeRepository.patch(employee, version, Map.of("name", "Patched Name"),
+                LocalDateTime.now()).orElseThrow();
+
+        assertThat(patched.before().getName()).isEqualTo(name);
+        assertThat(patched.before().getVersion()).isEqualTo(version);
+        assertThat(patched.after().getName()).isEqualTo("Patched Name");
+        assertThat(patched.after().getVersion()).isEqualTo(version + 1);
+        assertThat(patched.after().getDepartmentName()).isNotNull();
+    }
+
+    @Test
+    void staleVersionUpdatesNothing() {
+        Optional<PatchedEmployee> patched = employeeRepository.patch(employee, version - 1,
+                Map.of("name", "Stale Write"), LocalDateTime.now());
+
+        assertThat(patched).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM employees WHERE id = ?", Long.class, employee))
+                .isEqualTo(version);
+    }
+
+    @Test
+    void missingEmployeeUpdatesNothing() {
+        assertThat(employeeRepository.patch(-1L, 0, Map.of("name", "Nobody"), LocalDateTime.now())).isEmpty();
+    }
+
+    // ---- Service ----
+
+    @Test
+    void staleVersionIsConflictWithCurrentEmployee() {
+        assertThatThrownBy(() -> employeeService.patchEmployee(employee, request(version - 1, "Stale Write", null)))
+                .isInstanceOf(ConflictException.class)
+                .satisfies(e -> assertThat(((ConflictException) e).getCurrent()).isNotNull());
+    }
+
+    @Test
+    void missingEmployeeIsNotFound() {
+        assertThatThrownBy(() -> employeeService.patchEmployee(-1L, request(0, "Nobody", null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void duplicateEmailIsConflict() {
+        String taken = jdbcTemplate.queryForObject("SELECT email FROM employees WHERE id <> ? LIMIT 1", String.class, employee);
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(employee, request(version, null, taken)))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("already in use");
+    }
+
+    @Test
+    void valueTheColumnRejectsIsBadRequest() {
+        // name is varchar(100); bean validation is skipped when calling the service directly
+        assertThatThrownBy(() -> employeeService.patchEmployee(employee, request(version, "x".repeat(101), null)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static PatchEmployeeRequestDto request(long version, String name, String email) {
+        PatchEmployeeRequestDto request = new PatchEmployeeRequestDto();
+        request.setVersion(version);
+        request.setName(name);
+        request.setEmail(email);
+        return request;
+    }
+}
@@ -0,0 +1,424 @@
+package com.pradeep.ems.repository;
+
+import com.pradeep.ems.dataset.DatasetGenerator;
+import com.pradeep.ems.dto.response.CountStrategy;
+import com.pradeep.ems.dto.response.DepartmentHeadcountReportDto;
+import com.pradeep.ems.dto.response.DepartmentSalaryReportDto;
+import com.pradeep.ems.dto.response.DepartmentStatusReportDto;
+import com.pradeep.ems.service.EmployeeService;
+import com.pradeep.ems.support.ExplainCapture;
+import com.pradeep.ems.support.QueryCountAssertions;
+import com.pradeep.ems.support.QueryPlan;
+import com.pradeep.ems.support.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Query-plan regression suite for EmployeeRepository and DepartmentRepository.
+ *
+ * Seeds a sizeable dataset with DatasetGenerator and captures EXPLAIN (ANALYZE, BUFFERS)
+ * for every statement each repository query issues. A query fails when
+ * - it sequentially scans a table larger than SEQ_SCAN_PAGE_LIMIT pages, unless allowed, or
+ * - its statements touch more shared buffers than the query's budget.
+ * Budgets are roughly twice the buffers measured on the seeded dataset. Plans are written
+ * to target/query-plans/ for review.
+ *
+ * Part of the db-tests profile, on its own database emsplans (see TestDatabase):
+ *   mvn -Pdb-tests test -Dgroups=plans -Ddb-tests.jdbc-url=jdbc:postgresql://localhost:5432/postgres
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.cache.type=none",
+        "ems.metrics.method-timing.enabled=false"
+})
+@ActiveProfiles("plans")
+@Import(QueryPlanRegressionTest.ExplainConfig.class)
+@Tag("plans")
+class QueryPlanRegressionTest {
+
+    private static final int DEPARTMENTS = 100;
+    private static final long EMPLOYEES = 200_000;
+    private static final long SEQ_SCAN_PAGE_LIMIT = 1_000;
+    private static final Path PLAN_DIR = Path.of("target", "query-plans");
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+    @Autowired
+    private ReportRepository reportRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static Fixture fixture;
+
+    @TestConfiguration
+    static class ExplainConfig {
+        @Bean
+        static BeanPostProcessor explainingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                            ? ExplainCapture.wrap(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    static void requireDatabase() {
+        TestDatabase.require();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry, "emsplans");
+    }
+
+    @BeforeEach
+    void seed() throws Exception {
+        if (fixture != null) {
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM employees", Long.class);
+        if (existing < EMPLOYEES) {
+            datasetGenerator.generate(DEPARTMENTS, EMPLOYEES - existing, 42, true);
+        }
+        Map<String, Long> pages = new HashMap<>();
+        jdbcTemplate.query("SELECT relname, relpages FROM pg_class WHERE relkind = 'r' AND relnamespace = current_schema()::regnamespace",
+                rs -> {
+                    pages.put(rs.getString(1), rs.getLong(2));
+                });
+        // A department of median size: large enough to be representative, small enough for index access
+        Long department = jdbcTemplate.queryForObject("SELECT department_id FROM employees GROUP BY department_id "
+                + "ORDER BY count(*) DESC, department_id OFFSET (SELECT count(DISTINCT department_id) / 2 FROM employees) LIMIT 1", Long.class);
+        Long employee = jdbcTemplate.queryForObject("SELECT max(id) FROM employees", Long.class);
+        LocalDate createdOn = jdbcTemplate.queryForObject("SELECT created_at::date FROM employees WHERE id = ?", LocalDate.class, employee);
+        String departmentName = jdbcTemplate.queryForObject("SELECT name FROM departments WHERE id = ?", String.class, department);
+        fixture = new Fixture(pages, department, departmentName, employee, createdOn);
+    }
+
+    // ---- EmployeeRepository ----
+
+    @Test
+    void findByDepartmentId() throws Exception {
+        check("employee-findByDepartmentId", 1_500,
+                plans(() -> employeeRepository.findByDepartmentId(fixture.department())));
+    }
+
+    @Test
+    void findByDepartmentIdPaged() throws Exception {
+        check("employee-findByDepartmentId-paged", 2_000,
+                plans(() -> employeeRepository.findByDepartmentId(fixture.department(), PageRequest.of(0, 20, Sort.by("id")))));
+    }
+
+    @Test
+    void countEmployeesByDepartment() throws Exception {
+        check("employee-countEmployeesByDepartment", 1_200,
+                plans(() -> employeeRepository.countEmployeesByDepartment(fixture.department())));
+    }
+
+    @Test
+    void findByIdWithDepartment() throws Exception {
+        check("employee-findByIdWithDepartment", 20,
+                plans(() -> employeeRepository.findByIdWithDepartment(fixture.employee())));
+    }
+
+    @Test
+    void findById() throws Exception {
+        check("employee-findById", 20,
+                plans(() -> employeeRepository.findById(fixture.employee())));
+    }
+
+    @Test
+    void findTopEarnersNative() throws Exception {
+        check("employee-findTopEarnersNative", 50,
+                plans(() -> employeeRepository.findTopEarnersNative(new BigDecimal("100000"), 10)));
+    }
+
+    @Test
+    void updateEmployeeStatus() throws Exception {
+        check("employee-updateEmployeeStatus", 100,
+                plansRolledBack(() -> employeeRepository.updateEmployeeStatus(fixture.employee(), "INACTIVE", LocalDateTime.now())));
+    }
+
+    @Test
+    void findByCreatedDate() throws Exception {
+        check("employee-findByCreatedDate", 300,
+                plans(() -> employeeRepository.findByCreatedDate(fixture.createdOn())));
+    }
+
+    @Test
+    void specificationFilteredByDepartment() throws Exception {
+        check("employee-specification-department", 2_000,
+                plans(() -> employeeService.getAllEmployees(PageRequest.of(0, 20, Sort.by("id")), null, fixture.department(), CountStrategy.EXACT)));
+    }
+
+    @Test
+    void specificationSearch() throws Exception {
+        // '%term%' can't use a b-tree index; the scan is accepted until a trigram index exists
+        check("employee-specification-search", 8_000,
+                plans(() -> employeeService.getAllEmployees(PageRequest.of(0, 20, Sort.by("id")), "sharma", null, CountStrategy.EXACT)),
+                "employees");
+    }
+
+    @Test
+    void facetTotalsMatchListingTotal() throws Exception {
+        // facetCounts filters in SQL (listingFilter, shared with estimateCount), the listing with
+        // a Specification: every facet must add up to the listing's exact total for the same filter
+        String[] searches = {null, "sharma", "an"};
+        Long[] departments = {null, fixture.department()};
+        for (String search : searches) {
+            for (Long department : departments) {
+                long total = employeeService.getAllEmployees(PageRequest.of(0, 20), search, department, CountStrategy.EXACT)
+                        .getTotalElements();
+                Map<String, Long> facetTotals = new HashMap<>();
+                for (EmployeeRepositoryCustom.FacetRow row : employeeRepository.facetCounts(search, department)) {
+                    facetTotals.merge(row.facet(), row.count(), Long::sum);
+                }
+                for (String facet : List.of("status", "department", "jobTitle")) {
+                    assertThat(facetTotals.getOrDefault(facet, 0L))
+                            .as("%s facet total for search=%s, department=%s", facet, search, department)
+                            .isEqualTo(total);
+                }
+            }
+        }
+    }
+
+    @Test
+    void departmentFacetMatchesDepartmentListing() throws Exception {
+        for (EmployeeRepositoryCustom.FacetRow row : employeeRepository.facetCounts("sharma", null)) {
+            if (!row.facet().equals("department")) {
+                continue;
+            }
+            long listed = employeeService.getAllEmployees(PageRequest.of(0, 20), "sharma", Long.valueOf(row.value()),
+                    CountStrategy.EXACT).getTotalElements();
+            assertThat(row.count()).as("department %s (%s)", row.value(), row.label()).isEqualTo(listed);
+        }
+    }
+
+    // ---- ReportRepository ----
+
+    @Test
+    void liveReportsMatchEmployees() {
+        checkReports(false);
+    }
+
+    @Test
+    void materializedViewReportsMatchEmployees() {
+        reportRepository.createViews();
+        reportRepository.refreshViews();
+        checkReports(true);
+    }
+
+    // ---- DepartmentRepository ----
+
+    @Test
+    void findByName() throws Exception {
+        check("department-findByName", 20,
+                plans(() -> departmentRepository.findByName(fixture.departmentName())));
+    }
+
+    @Test
+    void findByIdWithEmployees() throws Exception {
+        check("department-findByIdWithEmployees", 1_500,
+                plans(() -> departmentRepository.findByIdWithEmployees(fixture.department())));
+    }
+
+    @Test
+    void departmentFindById() throws Exception {
+        check("department-findById", 1_500,
+                plans(() -> departmentRepository.findById(fixture.department())));
+    }
+
+    @Test
+    void findEmptyDepartments() throws Exception {
+        check("department-findEmptyDepartments", 500,
+                plans(() -> departmentRepository.findEmptyDepartments()));
+    }
+
+    @Test
+    void findDepartmentsWithEmployeeCountAbove() throws Exception {
+        check("department-findDepartmentsWithEmployeeCountAbove", 500,
+                plans(() -> departmentRepository.findDepartmentsWithEmployeeCountAbove(1_000)));
+    }
+
+    @Test
+    void updateDepartmentBudget() throws Exception {
+        check("department-updateDepartmentBudget", 50,
+                plansRolledBack(() -> departmentRepository.updateDepartmentBudget(fixture.department(), new BigDecimal("123456.00"))));
+    }
+
+    // ---- helpers ----
+
+    /**
+     * Recomputes every report figure in Java from the raw rows and compares
+     */
+    private void checkReports(boolean fromView) {
+        Map<Long, List<BigDecimal>> salaries = new HashMap<>();
+        Map<Long, Map<String, Long>> statuses = new HashMap<>();
+        jdbcTemplate.query("SELECT id FROM departments", rs -> {
+            salaries.put(rs.getLong(1), new ArrayList<>());
+        });
+        jdbcTemplate.query("SELECT department_id, status, salary FROM employees WHERE department_id IS NOT NULL", rs -> {
+            long department = rs.getLong(1);
+            salaries.get(department).add(rs.getBigDecimal(3));
+            statuses.computeIfAbsent(department, d -> new HashMap<>()).merge(rs.getString(2), 1L, Long::sum);
+        });
+        long employees = salaries.values().stream().mapToLong(List::size).sum();
+        BigDecimal payroll = salaries.values().stream().flatMap(List::stream).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        List<DepartmentSalaryReportDto> salaryReport = reportRepository.salaryByDepartment(fromView);
+        assertThat(salaryReport).hasSize(salaries.size());
+        for (DepartmentSalaryReportDto row : salaryReport) {
+            List<BigDecimal> values = salaries.get(row.getDepartmentId()).stream().sorted().toList();
+            BigDecimal sum = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            String department = "salary report, department " + row.getDepartmentId() + (fromView ? " (view)" : "");
+            assertThat(row.getHeadcount()).as(department).isEqualTo(values.size());
+            assertThat(row.getTotalSalary()).as(department).isEqualByComparingTo(sum);
+            assertThat(row.getPayrollSharePercent()).as(department)
+                    .isCloseTo(100.0 * sum.doubleValue() / payroll.doubleValue(), within(1e-6));
+            if (values.isEmpty()) {
+                assertThat(row.getAverageSalary()).as(department).isNull();
+                continue;
+            }
+            assertThat(row.getAverageSalary()).as(department)
+                    .isCloseTo(sum.divide(BigDecimal.valueOf(values.size()), 6, RoundingMode.HALF_UP), within(new BigDecimal("0.01")));
+            assertThat(row.getMinSalary()).as(department).isEqualByComparingTo(values.get(0));
+            assertThat(row.getMaxSalary()).as(department).isEqualByComparingTo(values.get(values.size() - 1));
+            assertThat(row.getMedianSalary()).as(department).isCloseTo(percentile(values, 0.5), within(0.01));
+            assertThat(row.getP90Salary()).as(department).isCloseTo(percentile(values, 0.9), within(0.01));
+            assertThat(row.getP99Salary()).as(department).isCloseTo(percentile(values, 0.99), within(0.01));
+        }
+        assertThat(salaryReport).extracting(DepartmentSalaryReportDto::getRankByAverageSalary).isSorted();
+
+        List<DepartmentHeadcountReportDto> headcountReport = reportRepository.headcountByDepartment(fromView);
+        assertThat(headcountReport).hasSize(salaries.size());
+        for (DepartmentHeadcountReportDto row : headcountReport) {
+            Map<String, Long> byStatus = statuses.getOrDefault(row.getDepartmentId(), Map.of());
+            long headcount = salaries.get(row.getDepartmentId()).size();
+            assertThat(row.getHeadcount()).as("headcount, department %s", row.getDepartmentId()).isEqualTo(headcount);
+            assertThat(row.getActiveHeadcount()).as("active headcount, department %s", row.getDepartmentId())
+                    .isEqualTo(byStatus.getOrDefault("ACTIVE", 0L));
+            assertThat(row.getCompanySharePercent()).isCloseTo(100.0 * headcount / employees, within(1e-6));
+        }
+
+        List<DepartmentStatusReportDto> statusReport = reportRepository.statusByDepartment(fromView);
+        assertThat(statusReport).hasSize(statuses.values().stream().mapToInt(Map::size).sum());
+        for (DepartmentStatusReportDto row : statusReport) {
+            Map<String, Long> byStatus = statuses.get(row.getDepartmentId());
+            long departmentTotal = byStatus.values().stream().mapToLong(Long::longValue).sum();
+            assertThat(row.getHeadcount()).as("status %s, department %s", row.getStatus(), row.getDepartmentId())
+                    .isEqualTo(byStatus.get(row.getStatus()));
+            assertThat(row.getDepartmentSharePercent()).isCloseTo(100.0 * row.getHeadcount() / departmentTotal, within(1e-6));
+        }
+    }
+
+    // percentile_cont: linear interpolation between the two closest ranks
+    private static double percentile(List<BigDecimal> sorted, double fraction) {
+        double position = fraction * (sorted.size() - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        double low = sorted.get(lower).doubleValue();
+        return low + (position - lower) * (sorted.get(upper).doubleValue() - low);
+    }
+
+    private List<QueryPlan> plans(QueryCountAssertions.ThrowingRunnable action) throws Exception {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return ExplainCapture.capture(() -> readOnly.executeWithoutResult(status -> run(action)));
+    }
+
+    private List<QueryPlan> plansRolledBack(QueryCountAssertions.ThrowingRunnable action) throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return ExplainCapture.capture(() -> transaction.executeWithoutResult(status -> {
+            run(action);
+            status.setRollbackOnly();
+        }));
+    }
+
+    private static void run(QueryCountAssertions.ThrowingRunnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void check(String name, long bufferBudget, List<QueryPlan> plans, String... allowedSeqScans) throws IOException {
+        assertThat(plans).as("statements captured for %s", name).isNotEmpty();
+        writePlans(name, plans);
+
+        long buffers = 0;
+        for (QueryPlan plan : plans) {
+            buffers += plan.sharedBuffers();
+            for (String relation : plan.seqScannedRelations()) {
+                if (Arrays.asList(allowedSeqScans).contains(relation)) {
+                    continue;
+                }
+                assertThat(fixture.pages().getOrDefault(relation, 0L))
+                        .as("%s: sequential scan on %s (%s)%n%s", name, relation, plan.summary(), plan.sql())
+                        .isLessThanOrEqualTo(SEQ_SCAN_PAGE_LIMIT);
+            }
+        }
+        assertThat(buffers)
+                .as("%s: shared buffers touched by %s", name, plans.stream().map(QueryPlan::summary).toList())
+                .isLessThanOrEqualTo(bufferBudget);
+    }
+
+    private static void writePlans(String name, List<QueryPlan> plans) throws IOException {
+        Files.createDirectories(PLAN_DIR);
+        StringBuilder out = new StringBuilder();
+        for (QueryPlan plan : plans) {
+            out.append("-- ").append(plan.summary()).append('\n')
+                    .append("-- ").append(plan.sql()).append('\n')
+                    .append(plan.json()).append("\n\n");
+        }
+        Files.writeString(PLAN_DIR.resolve(name + ".txt"), out);
+    }
+
+    private record Fixture(Map<String, Long> pages, Long department, String departmentName,
+                           Long employee, LocalDate createdOn) {
+    }
+}
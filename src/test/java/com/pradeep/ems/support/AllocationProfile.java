@@ -0,0 +1,144 @@
+package com.pradeep.ems.support;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bytes allocated per call of an action, run in a loop under a JFR recording.
+ *
+ * The per-call figure is exact: the calling thread's allocated-bytes counter over the measured
+ * loop, divided by the iterations. The JFR allocation samples (jdk.ObjectAllocationSample,
+ * weighted by the bytes they stand for) say where those bytes went; they are throttled, so
+ * their total is an estimate and is only reported. Only the calling thread is counted, which
+ * is where MockMvc runs the whole request.
+ *
+ * Example:
+ *   AllocationProfile profile = AllocationProfile.measure(200, 1_000, () -> mockMvc.perform(get("/api/v1/departments")));
+ *   profile.write(Path.of("target", "allocation"), "departments-list");
+ */
+public final class AllocationProfile {
+
+    private static final String APPLICATION_PACKAGE = "com.pradeep.ems.";
+    private static final int TOP = 15;
+
+    private final int iterations;
+    private final long allocatedBytes;
+    private final Path recordingFile;
+    private final long sampledBytes;
+    private final Map<String, Long> byClass;
+    private final Map<String, Long> byApplicationFrame;
+
+    private AllocationProfile(int iterations, long allocatedBytes, Path recordingFile, long sampledBytes,
+                              Map<String, Long> byClass, Map<String, Long> byApplicationFrame) {
+        this.iterations = iterations;
+        this.allocatedBytes = allocatedBytes;
+        this.recordingFile = recordingFile;
+        this.sampledBytes = sampledBytes;
+        this.byClass = byClass;
+        this.byApplicationFrame = byApplicationFrame;
+    }
+
+    public static AllocationProfile measure(int warmup, int iterations,
+                                            QueryCountAssertions.ThrowingRunnable action) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            action.run();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Path recordingFile = Files.createTempFile("allocation", ".jfr");
+
+        long allocated;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "5000/s").withStackTrace();
+            recording.setToDisk(true);
+            recording.setDestination(recordingFile);
+            recording.start();
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < iterations; i++) {
+                action.run();
+            }
+            allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            recording.stop();
+        }
+
+        long sampled = 0;
+        Map<String, Long> byClass = new HashMap<>();
+        Map<String, Long> byFrame = new HashMap<>();
+        List<RecordedEvent> samples = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getThread() != null && event.getThread().getJavaThreadId() == threadId)
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+        // A sample's weight covers the bytes since the thread's previous sample, so the first
+        // one also stands for everything allocated before the recording started
+        for (RecordedEvent event : samples.subList(Math.min(1, samples.size()), samples.size())) {
+            long weight = event.getLong("weight");
+            sampled += weight;
+            byClass.merge(event.getClass("objectClass").getName(), weight, Long::sum);
+            byFrame.merge(applicationFrame(event), weight, Long::sum);
+        }
+        return new AllocationProfile(iterations, allocated, recordingFile, sampled, byClass, byFrame);
+    }
+
+    public long bytesPerCall() {
+        return allocatedBytes / iterations;
+    }
+
+    public long sampledBytesPerCall() {
+        return sampledBytes / iterations;
+    }
+
+    /**
+     * Per-call summary with the top allocated classes and allocating application frames
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%,d bytes/call allocated (%,d bytes/call sampled by JFR, %d calls)%n",
+                bytesPerCall(), sampledBytesPerCall(), iterations));
+        appendTop(out, "Allocated classes", byClass);
+        appendTop(out, "Innermost application frames", byApplicationFrame);
+        return out.toString();
+    }
+
+    /**
+     * Writes the summary to dir/name.txt and keeps the recording as dir/name.jfr (open in JMC)
+     */
+    public void write(Path dir, String name) throws IOException {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(name + ".txt"), summary());
+        Files.move(recordingFile, dir.resolve(name + ".jfr"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void appendTop(StringBuilder out, String title, Map<String, Long> weights) {
+        out.append(title).append(" (sampled bytes/call):").append(System.lineSeparator());
+        weights.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP)
+                .forEach(entry -> out.append(String.format("  %,10d  %s%n", entry.getValue() / iterations, entry.getKey())));
+    }
+
+    private static String applicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("(no application frame in the recorded stack)");
+    }
+}
@@ -0,0 +1,110 @@
+package com.pradeep.ems.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Captures EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) for every statement a call runs.
+ *
+ * Wrap the application DataSource with {@link #wrap(DataSource)}; while a capture scope is
+ * open on the thread, each PreparedStatement is explained on the same connection with the
+ * same bind parameters just before it executes. Statements with side effects are executed
+ * twice (once by EXPLAIN ANALYZE), so run writes inside a transaction that rolls back.
+ *
+ * Example:
+ *   List<QueryPlan> plans = ExplainCapture.capture(() -> employeeRepository.findTopEarnersNative(min, 10));
+ */
+public final class ExplainCapture {
+
+    private static final ThreadLocal<List<QueryPlan>> CAPTURED = new ThreadLocal<>();
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    private ExplainCapture() {
+    }
+
+    public static List<QueryPlan> capture(QueryCountAssertions.ThrowingRunnable action) throws Exception {
+        if (CAPTURED.get() != null) {
+            throw new IllegalStateException("An explain capture scope is already open on this thread");
+        }
+        List<QueryPlan> plans = new ArrayList<>();
+        CAPTURED.set(plans);
+        try {
+            action.run();
+            return plans;
+        } finally {
+            CAPTURED.remove();
+        }
+    }
+
+    public static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                result instanceof Connection connection ? wrapConnection(connection) : result);
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, target, (method, args, result) ->
+                method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                        ? wrapStatement(target, (String) args[0], statement)
+                        : result);
+    }
+
+    private static PreparedStatement wrapStatement(Connection connection, String sql, PreparedStatement target) {
+        List<Object[]> bindings = new ArrayList<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Object[]{method, args});
+            } else if (method.getName().equals("clearParameters")) {
+                bindings.clear();
+            } else if (EXECUTE_METHODS.contains(method.getName()) && (args == null || args.length == 0)) {
+                explain(connection, sql, bindings);
+            }
+            return invoke(target, method, args);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(ExplainCapture.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private static void explain(Connection connection, String sql, List<Object[]> bindings) throws Throwable {
+        List<QueryPlan> plans = CAPTURED.get();
+        if (plans == null) {
+            return;
+        }
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+            for (Object[] binding : bindings) {
+                invoke(explain, (Method) binding[0], (Object[]) binding[1]);
+            }
+            try (ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                plans.add(QueryPlan.parse(sql, rs.getString(1)));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultWrapper {
+        Object wrap(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+        return (T) Proxy.newProxyInstance(ExplainCapture.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> wrapper.wrap(method, args, invoke(target, method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
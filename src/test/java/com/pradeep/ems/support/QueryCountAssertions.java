@@ -0,0 +1,50 @@
+package com.pradeep.ems.support;
+
+import com.pradeep.ems.metrics.QueryCountHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements a call issues, so N+1 regressions fail the build.
+ *
+ * Example:
+ *   QueryCountAssertions.assertQueryCount(2, () -> mockMvc.perform(get("/api/v1/employees")));
+ *
+ * MockMvc runs the request on the calling thread, so QueryCountFilter joins the scope
+ * opened here instead of opening its own.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    public static void assertQueryCount(int expected, ThrowingRunnable action) throws Exception {
+        assertThat(countQueries(action))
+                .as("SQL statements issued")
+                .isEqualTo(expected);
+    }
+
+    public static void assertMaxQueryCount(int max, ThrowingRunnable action) throws Exception {
+        assertThat(countQueries(action))
+                .as("SQL statements issued")
+                .isLessThanOrEqualTo(max);
+    }
+
+    public static int countQueries(ThrowingRunnable action) throws Exception {
+        QueryCountHolder.QueryCount count = QueryCountHolder.open();
+        if (count == null) {
+            throw new IllegalStateException("A query count scope is already open on this thread");
+        }
+        try {
+            action.run();
+            return count.getStatements();
+        } finally {
+            QueryCountHolder.close();
+        }
+    }
+}
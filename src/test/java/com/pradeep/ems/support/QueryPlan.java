@@ -0,0 +1,75 @@
+package com.pradeep.ems.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One statement's EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) output
+ */
+public record QueryPlan(String sql, String json, JsonNode root, List<Node> nodes) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * A plan node; relation is null for nodes that don't read a table or index
+     */
+    public record Node(String type, String relation, String index) {
+    }
+
+    static QueryPlan parse(String sql, String json) {
+        try {
+            JsonNode root = MAPPER.readTree(json).get(0);
+            List<Node> nodes = new ArrayList<>();
+            collect(root.get("Plan"), nodes);
+            return new QueryPlan(sql, json, root, nodes);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Shared buffers hit or read by the whole statement (the top node's counters include its children)
+     */
+    public long sharedBuffers() {
+        JsonNode plan = root.get("Plan");
+        return plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong();
+    }
+
+    public double executionTimeMs() {
+        return root.path("Execution Time").asDouble();
+    }
+
+    public List<String> seqScannedRelations() {
+        return nodes.stream()
+                .filter(node -> "Seq Scan".equals(node.type()))
+                .map(Node::relation)
+                .toList();
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        nodes.forEach(node -> {
+            summary.append(node.type());
+            if (node.relation() != null) {
+                summary.append(" on ").append(node.relation());
+            }
+            if (node.index() != null) {
+                summary.append(" using ").append(node.index());
+            }
+            summary.append("; ");
+        });
+        return summary.append(sharedBuffers()).append(" buffers, ")
+                .append(executionTimeMs()).append(" ms").toString();
+    }
+
+    private static void collect(JsonNode plan, List<Node> nodes) {
+        nodes.add(new Node(plan.path("Node Type").asText(),
+                plan.hasNonNull("Relation Name") ? plan.get("Relation Name").asText() : null,
+                plan.hasNonNull("Index Name") ? plan.get("Index Name").asText() : null));
+        plan.path("Plans").forEach(child -> collect(child, nodes));
+    }
+}
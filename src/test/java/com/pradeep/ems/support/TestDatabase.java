@@ -0,0 +1,104 @@
+package com.pradeep.ems.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Postgres for the database-backed suites (the db-tests profile in pom.xml).
+ *
+ * Each suite gets its own database, created if missing, so datasets seeded for one suite do
+ * not skew another's budgets. The server is an existing one given by
+ *   -Ddb-tests.jdbc-url=jdbc:postgresql://localhost:5432/postgres (any database on it)
+ *   -Ddb-tests.username / -Ddb-tests.password (default postgres/postgres)
+ * or else one Testcontainers Postgres shared by every suite in the run.
+ *
+ * Example:
+ *   @BeforeAll static void requireDatabase() { TestDatabase.require(); }
+ *   @DynamicPropertySource static void datasource(DynamicPropertyRegistry registry) { TestDatabase.register(registry, "emsplans"); }
+ */
+public final class TestDatabase {
+
+    private static final String EXTERNAL_URL = System.getProperty("db-tests.jdbc-url");
+    private static final Set<String> created = new HashSet<>();
+
+    private static PostgreSQLContainer<?> postgres;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Fails the suite when there is neither Docker nor -Ddb-tests.jdbc-url
+     */
+    public static void require() {
+        assertThat(EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable())
+                .as("Needs Docker or -Ddb-tests.jdbc-url (see the db-tests profile in pom.xml)")
+                .isTrue();
+    }
+
+    /**
+     * Points spring.datasource.* at {@code database}, creating it first if needed
+     */
+    public static synchronized void register(DynamicPropertyRegistry registry, String database) {
+        String serverUrl;
+        String username;
+        String password;
+        if (EXTERNAL_URL != null) {
+            serverUrl = EXTERNAL_URL;
+            username = System.getProperty("db-tests.username", "postgres");
+            password = System.getProperty("db-tests.password", "postgres");
+        } else {
+            if (postgres == null) {
+                postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+                postgres.start();
+            }
+            serverUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        if (created.add(database)) {
+            createIfMissing(serverUrl, username, password, database);
+        }
+        String url = withDatabase(serverUrl, database);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+    }
+
+    private static void createIfMissing(String serverUrl, String username, String password, String database) {
+        try (Connection connection = DriverManager.getConnection(serverUrl, username, password);
+             PreparedStatement exists = connection.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+            exists.setString(1, database);
+            try (ResultSet rs = exists.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+            try (Statement create = connection.createStatement()) {
+                create.execute("CREATE DATABASE \"" + database + "\"");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create test database " + database + " on " + serverUrl, e);
+        }
+    }
+
+    /**
+     * The JDBC URL with its database name replaced, keeping any query parameters
+     */
+    static String withDatabase(String url, String database) {
+        int query = url.indexOf('?');
+        String path = query < 0 ? url : url.substring(0, query);
+        return path.substring(0, path.lastIndexOf('/') + 1) + database + (query < 0 ? "" : url.substring(query));
+    }
+}
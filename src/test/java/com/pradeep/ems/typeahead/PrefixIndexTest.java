@@ -0,0 +1,62 @@
+package com.pradeep.ems.typeahead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Term derivation, case folding and ordering of the base index
+ */
+class PrefixIndexTest {
+
+    private final PrefixIndex index = new PrefixIndex.Builder()
+            .add(1, "Emma Sharma", "emma.sharma@example.com", "EMP-0001")
+            .add(2, "Rahul Chen", "rahul.chen@example.com", "EMP-0002")
+            .add(3, "Priya Sharma", "p.sharma@example.com", "EMP-0103")
+            .add(4, "Shanti Rao", "shanti@example.com", null)
+            .build();
+
+    @Test
+    void matchesAnyNameWordCaseInsensitively() {
+        assertThat(ids("SHARMA")).containsExactly(1L, 3L);
+        assertThat(ids("emma sh")).containsExactly(1L);
+        assertThat(ids("sha")).containsExactly(4L, 1L, 3L);  // "shanti" sorts before "sharma"
+    }
+
+    @Test
+    void matchesEmailAndEmployeeIdPrefixes() {
+        assertThat(ids("rahul.c")).containsExactly(2L);
+        assertThat(ids("emp-01")).containsExactly(3L);
+        assertThat(ids("emp-0")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void noMatchBeyondTheLastTerm() {
+        assertThat(ids("zz")).isEmpty();
+        assertThat(ids("sharmaa")).isEmpty();
+    }
+
+    @Test
+    void returnsOriginalFieldValues() {
+        List<String> names = new ArrayList<>();
+        index.search(PrefixIndex.foldedBytes("chen"), id -> false, (id, row, term) -> {
+            names.add(index.field(row, 0) + "|" + index.field(row, 1) + "|" + index.field(row, 2));
+            return true;
+        });
+        assertThat(names).containsExactly("Rahul Chen|rahul.chen@example.com|EMP-0002");
+    }
+
+    private List<Long> ids(String prefix) {
+        List<Long> ids = new ArrayList<>();
+        index.search(PrefixIndex.foldedBytes(PrefixIndex.fold(prefix)), id -> false, (id, row, term) -> {
+            if (!ids.contains(id)) {
+                ids.add(id);
+            }
+            return true;
+        });
+        return ids;
+    }
+}